@@ -0,0 +1,55 @@
+package com.vcb.edit.datefield.benchmark;
+
+import com.vcb.edit.datefield.format.DateFormat;
+import com.vcb.edit.datefield.format.formatter.DateFormatter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of DateFormatter.parse() and DateFormatter.format()
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateFormatterBenchmark {
+    @Param({"DD_MM_YYYY_SLASH", "YY_MM_DD_HYPHEN", "MMMM_DD_YYYY"})
+    public String formatType;
+
+    @Param({"true", "false"})
+    public boolean lenient;
+
+    private DateFormatter formatter;
+    private String pattern;
+    private String text;
+    private Date date;
+
+    @Setup
+    public void setUp() throws ParseException {
+        DateFormat format = Keystrokes.formatType(formatType);
+        formatter = new DateFormatter(lenient);
+        pattern = format.format();
+        text = Keystrokes.text(format, 2021, 12, 28);
+        date = formatter.parse(text, pattern);
+    }
+
+    @Benchmark
+    public Date parse() throws ParseException {
+        return formatter.parse(text, pattern);
+    }
+
+    @Benchmark
+    public String format() {
+        return formatter.format(date, pattern);
+    }
+}
@@ -0,0 +1,56 @@
+package com.vcb.edit.datefield.benchmark;
+
+import com.vcb.edit.datefield.format.DateFormat;
+import com.vcb.edit.datefield.format.engine.FormatCompiler;
+import com.vcb.edit.datefield.format.engine.KeystrokeEngine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of typing a full date, character by character, in each of the format types.
+ * Compares DateFormat.formatInput() over all the components with the keystroke engine.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FormatInputBenchmark {
+    @Param({"DD_MM_YY_SLASH", "DD_MM_YYYY_SLASH", "YY_MM_DD_SLASH", "YYYY_MM_DD_SLASH",
+            "DD_MM_YY_HYPHEN", "DD_MM_YYYY_HYPHEN", "YY_MM_DD_HYPHEN", "YYYY_MM_DD_HYPHEN", "MMMM_DD_YYYY"})
+    public String formatType;
+
+    private DateFormat format;
+    private KeystrokeEngine engine;
+    private char[] buffer;
+    private String typed;
+
+    @Setup
+    public void setUp() {
+        format = Keystrokes.formatType(formatType);
+        engine = FormatCompiler.compile(format);
+        buffer = new char[format.length()];
+        typed = Keystrokes.typed(format, Keystrokes.text(format, 2021, 12, 28));
+    }
+
+    @Benchmark
+    public String formatInput() {
+        return Keystrokes.typeWithFormatInput(format, typed);
+    }
+
+    @Benchmark
+    public int keystrokeEngine() {
+        int length = 0;
+        for(int i = 0; i < typed.length(); i++) {
+            length = engine.append(buffer, length, typed.charAt(i));
+        }
+        return length;
+    }
+}
@@ -0,0 +1,82 @@
+package com.vcb.edit.datefield.benchmark;
+
+import com.vcb.edit.datefield.format.DateFormat;
+import com.vcb.edit.datefield.format.FormatTypes;
+import com.vcb.edit.datefield.format.types.component.contract.Component;
+
+import java.text.SimpleDateFormat;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+
+/**
+ * Inputs shared by the benchmarks
+ */
+final class Keystrokes {
+
+    /**
+     * Constructor
+     */
+    private Keystrokes() {
+    }
+
+    /**
+     * Returns the format of FormatTypes with the field name
+     * @param name the name of the field in FormatTypes
+     * @return DateFormat - the format
+     */
+    static DateFormat formatType(String name) {
+        try {
+            return (DateFormat) FormatTypes.class.getField(name).get(null);
+        } catch (Exception ex) {
+            throw new IllegalArgumentException("Unknown format type " + name, ex);
+        }
+    }
+
+    /**
+     * Returns the date in the format
+     * @param format the format
+     * @param year the year
+     * @param month the month from 1 to 12
+     * @param day the day of month
+     * @return String - the formatted date
+     */
+    static String text(DateFormat format, int year, int month, int day) {
+        SimpleDateFormat formatter = new SimpleDateFormat(format.format(), Locale.US);
+        return formatter.format(new GregorianCalendar(year, month - 1, day).getTime());
+    }
+
+    /**
+     * Returns the characters a user types for the date, which are the characters of the components.
+     * The separators are added by the format.
+     * @param format the format
+     * @param text the date in the format
+     * @return String - the typed characters
+     */
+    static String typed(DateFormat format, String text) {
+        StringBuilder builder = new StringBuilder();
+        for(int i = 0; i < text.length(); i++) {
+            for(Component component : format.components().values()) {
+                if(i >= component.index().getStart() && i <= component.index().getEnd()) {
+                    builder.append(text.charAt(i));
+                    break;
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Types the characters one by one the way DateField does without the keystroke engine.
+     * Every component of the format is given a chance to format the text after a character.
+     * @param format the format
+     * @param typed the typed characters
+     * @return String - the text after the last character
+     */
+    static String typeWithFormatInput(DateFormat format, String typed) {
+        String text = "";
+        for(int i = 0; i < typed.length(); i++) {
+            text = format.formatInput(text + typed.charAt(i));
+        }
+        return text;
+    }
+}
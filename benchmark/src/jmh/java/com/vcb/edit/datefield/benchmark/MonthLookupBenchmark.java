@@ -0,0 +1,71 @@
+package com.vcb.edit.datefield.benchmark;
+
+import com.vcb.edit.datefield.format.FormatTypes;
+import com.vcb.edit.datefield.format.LazyDateFormat;
+import com.vcb.edit.datefield.format.month.MonthNameMatcher;
+import com.vcb.edit.datefield.format.types.component.contract.Component;
+import com.vcb.edit.datefield.format.types.variants.BaseMMMDD;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the month name lookup of BaseMMMDD, for all the twelve month names.
+ * The month map lookup is kept to compare with the matcher that replaced it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MonthLookupBenchmark {
+    private BaseMMMDD format;
+    private Component month;
+    private MonthNameMatcher matcher;
+    private String[] names;
+
+    @Setup
+    public void setUp() {
+        format = (BaseMMMDD) LazyDateFormat.unwrap(FormatTypes.MMMM_DD_YYYY);
+        month = format.components().get(Calendar.MONTH);
+        matcher = format.getMonthNameMatcher();
+        names = format.getMonthMap().keySet().toArray(new String[0]);
+    }
+
+    @Benchmark
+    public void monthMap(Blackhole blackhole) {
+        for(String name : names) {
+            blackhole.consume(format.getMonthMap().get(name));
+        }
+    }
+
+    @Benchmark
+    public void monthNameMatcher(Blackhole blackhole) {
+        for(String name : names) {
+            blackhole.consume(matcher.match(name, 0));
+        }
+    }
+
+    @Benchmark
+    public void monthNameMatcherPrefix(Blackhole blackhole) {
+        for(String name : names) {
+            for(int count = 1; count <= name.length(); count++) {
+                blackhole.consume(matcher.isPrefix(name, 0, count));
+            }
+        }
+    }
+
+    @Benchmark
+    public void formatInputAtMonthEnd(Blackhole blackhole) {
+        for(String name : names) {
+            blackhole.consume(format.formatInput(month, name));
+        }
+    }
+}
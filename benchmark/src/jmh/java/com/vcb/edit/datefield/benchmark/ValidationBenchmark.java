@@ -0,0 +1,72 @@
+package com.vcb.edit.datefield.benchmark;
+
+import com.vcb.edit.datefield.constants.StatusType;
+import com.vcb.edit.datefield.format.DateFormat;
+import com.vcb.edit.datefield.format.calendar.EpochDays;
+import com.vcb.edit.datefield.format.formatter.DateFormatter;
+import com.vcb.edit.datefield.validation.DateInputValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the validation behind DateField.getValidationStatus().
+ * Compares the validator with the parse and Date comparison it replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationBenchmark {
+    @Param({"DD_MM_YYYY_SLASH", "YY_MM_DD_HYPHEN", "MMMM_DD_YYYY"})
+    public String formatType;
+
+    private DateInputValidator validator;
+    private DateFormatter formatter;
+    private String pattern;
+    private String text;
+    private Date minDate;
+    private Date maxDate;
+
+    @Setup
+    public void setUp() {
+        DateFormat format = Keystrokes.formatType(formatType);
+        int minEpochDay = EpochDays.of(2000, 1, 1);
+        int maxEpochDay = EpochDays.of(2030, 12, 31);
+        validator = new DateInputValidator(format, false, minEpochDay, maxEpochDay);
+        formatter = new DateFormatter(false);
+        pattern = format.format();
+        text = Keystrokes.text(format, 2021, 12, 28);
+        minDate = EpochDays.toDate(minEpochDay);
+        maxDate = EpochDays.toDate(maxEpochDay);
+    }
+
+    @Benchmark
+    public long validator() {
+        return validator.validate(text);
+    }
+
+    @Benchmark
+    public StatusType parseAndCompare() {
+        try {
+            Date date = formatter.parse(text, pattern);
+            if(date.before(minDate)) {
+                return StatusType.OUT_OF_MIN_RANGE;
+            }
+            if(date.after(maxDate)) {
+                return StatusType.OUT_OF_MAX_RANGE;
+            }
+            return StatusType.VALID;
+        } catch (Exception ex) {
+        }
+        return StatusType.INVALID;
+    }
+}
@@ -0,0 +1,19 @@
+package com.vcb.edit.datefield.constants;
+
+/**
+ * The input types of the date formats.
+ * The values are the same as in android.text.InputType, so that they can be set to the view as they are.
+ * These are kept here so that the date formats do not depend on the Android framework.
+ */
+public class InputTypes {
+    /** Same as android.text.InputType.TYPE_CLASS_NUMBER */
+    public static final int TYPE_CLASS_NUMBER = 0x00000002;
+    /** Same as android.text.InputType.TYPE_DATETIME_VARIATION_DATE */
+    public static final int TYPE_DATETIME_VARIATION_DATE = 0x00000010;
+
+    /**
+     * Constructor
+     */
+    private InputTypes() {
+    }
+}
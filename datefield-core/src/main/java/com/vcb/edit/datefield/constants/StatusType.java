@@ -8,5 +8,7 @@ public enum StatusType {
     INVALID,
     ERROR,
     OUT_OF_MIN_RANGE,
-    OUT_OF_MAX_RANGE;
+    OUT_OF_MAX_RANGE,
+    /** The input is not complete and no completion of it is a date in the range. */
+    NO_VALID_COMPLETION;
 }
@@ -0,0 +1,83 @@
+package com.vcb.edit.datefield.exceptions;
+
+/**
+ * Exception thrown for validation from {@code DateField} class.
+ * The exception can be created without a stack trace and with a message built only when it is read,
+ * so that throwing it for a value expected to be invalid costs little. See {@link ExceptionCreator}.
+ */
+public class DateFieldInvalidArgumentException extends RuntimeException {
+    /**
+     * Whether the stack trace is filled in. False while the super constructor runs.
+     */
+    private final boolean writableStackTrace;
+    /**
+     * The parts of the message, joined on the first read of the message. Null once joined.
+     */
+    private Object[] messageParts;
+    /**
+     * The joined message
+     */
+    private String message;
+
+    /**
+     * Default constructor
+     */
+    public DateFieldInvalidArgumentException() {
+        super();
+        this.writableStackTrace = true;
+        super.fillInStackTrace();
+    }
+
+    /**
+     * Constructor
+     * @param message the message to be thrown
+     */
+    public DateFieldInvalidArgumentException(String message) {
+        super(message);
+        this.writableStackTrace = true;
+        this.message = message;
+        super.fillInStackTrace();
+    }
+
+    /**
+     * Constructor
+     * @param writableStackTrace whether the stack trace is filled in
+     * @param message the message to be thrown
+     */
+    public DateFieldInvalidArgumentException(boolean writableStackTrace, String message) {
+        super(message);
+        this.writableStackTrace = writableStackTrace;
+        this.message = message;
+        if(writableStackTrace) {
+            super.fillInStackTrace();
+        }
+    }
+
+    /**
+     * Constructor
+     * @param writableStackTrace whether the stack trace is filled in
+     * @param messageParts the parts of the message, joined when the message is read
+     */
+    public DateFieldInvalidArgumentException(boolean writableStackTrace, Object... messageParts) {
+        super();
+        this.writableStackTrace = writableStackTrace;
+        this.messageParts = messageParts;
+        if(writableStackTrace) {
+            super.fillInStackTrace();
+        }
+    }
+
+    @Override
+    public synchronized String getMessage() {
+        if(null != messageParts) {
+            message = ExceptionCreator.join(messageParts);
+            messageParts = null;
+        }
+        return message;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return writableStackTrace ? super.fillInStackTrace() : this;
+    }
+}
@@ -0,0 +1,89 @@
+package com.vcb.edit.datefield.exceptions;
+
+/**
+ * Creates and returns the exceptions for {@code DateField} class.
+ * With {@link #setStackTraceEnabled(boolean)} as false, the exceptions are created without the stack
+ * trace, eg:- to fill the fields from a backend where some of the values are expected to be invalid.
+ * The setting is static, so it applies to the exceptions of all the DateFields of the process, on any thread.
+ * The exceptions created from message parts join the parts only when the message is read.
+ */
+public class ExceptionCreator {
+    /**
+     * Whether the exceptions are created with the stack trace, for the whole process
+     */
+    private static volatile boolean stackTraceEnabled = true;
+
+    /**
+     * Returns whether the exceptions are created with the stack trace
+     * @return boolean - enabled or not. Default is true.
+     */
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    /**
+     * Sets whether the exceptions are created with the stack trace.
+     * This changes the exceptions of every DateField in the process, not only of the caller.
+     * @param enabled true to fill in the stack trace of the exceptions created after this
+     */
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
+
+    /**
+     * Returns the general exception for {@code DateField} class
+     * @param message the message to be shown
+     * @return the general DateFieldException
+     */
+    public static DateFieldException getGeneralException(String message) {
+        return new DateFieldException(stackTraceEnabled, message);
+    }
+
+    /**
+     * Returns the general exception for {@code DateField} class, with the message joined on its first read
+     * @param messageParts the parts of the message to be shown. Pass immutable values, eg:- a String
+     *                     for a Date, as they are read later
+     * @return the general DateFieldException
+     */
+    public static DateFieldException getGeneralException(Object... messageParts) {
+        return new DateFieldException(stackTraceEnabled, messageParts);
+    }
+
+    /**
+     * Returns the invalid argument exception for {@code DateField} class
+     * @param message the message to be shown
+     * @return the general DateFieldInvalidArgumentException
+     */
+    public static DateFieldInvalidArgumentException getInvalidArgumentException(String message) {
+        return new DateFieldInvalidArgumentException(stackTraceEnabled, message);
+    }
+
+    /**
+     * Returns the invalid argument exception for {@code DateField} class, with the message joined on its first read
+     * @param messageParts the parts of the message to be shown. Pass immutable values, eg:- a String
+     *                     for a Date, as they are read later
+     * @return the general DateFieldInvalidArgumentException
+     */
+    public static DateFieldInvalidArgumentException getInvalidArgumentException(Object... messageParts) {
+        return new DateFieldInvalidArgumentException(stackTraceEnabled, messageParts);
+    }
+
+    /**
+     * Joins the parts of a message
+     * @param messageParts the parts of the message
+     * @return String - the message or null if there are no parts or the only part is null
+     */
+    static String join(Object[] messageParts) {
+        if(null == messageParts || 0 == messageParts.length) {
+            return null;
+        }
+        if(1 == messageParts.length) {
+            return null == messageParts[0] ? null : messageParts[0].toString();
+        }
+        StringBuilder message = new StringBuilder();
+        for(Object part : messageParts) {
+            message.append(part);
+        }
+        return message.toString();
+    }
+}
@@ -1,5 +1,6 @@
 package com.vcb.edit.datefield.format;
 
+import com.vcb.edit.datefield.format.types.component.ComponentTable;
 import com.vcb.edit.datefield.format.types.component.contract.Component;
 
 import java.util.Map;
@@ -34,6 +35,15 @@ public interface DateFormat {
      * @return an instance of Map of type Map<Integer, ? super Index>
      */
     Map<Integer, Component> components();
+    /**
+     * Returns the components of the date format as a table indexed by the field,
+     * in the order of components().
+     * The default builds a new table on each call. The formats with fixed components can cache it.
+     * @return ComponentTable - the component table
+     */
+    default ComponentTable componentTable() {
+        return new ComponentTable(components().values());
+    }
     /**
      * Format the input value if any text changes are needed.
      * If formatting done, returns the formatted text. null will be returned otherwise.
@@ -49,4 +59,21 @@ public interface DateFormat {
      *          So if null is returned, assume that it is not formatted
      */
     String formatInput(Component component, String value);
+    /**
+     * Formats the input value with all the components of the format, in the order of the components.
+     * Returns the final text after all the changes, so the text can be changed once for a keystroke.
+     * The default loops over components(). The formats that keep a component table can override it.
+     * @param value the input value
+     * @return the formatted input value, or the value itself if nothing is changed
+     */
+    default String formatInput(String value) {
+        String text = value;
+        for(Component component : components().values()) {
+            String formatted = formatInput(component, text);
+            if(null != formatted) {
+                text = formatted;
+            }
+        }
+        return text;
+    }
 }
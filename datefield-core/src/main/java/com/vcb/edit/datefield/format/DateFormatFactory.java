@@ -0,0 +1,136 @@
+package com.vcb.edit.datefield.format;
+
+import com.vcb.edit.datefield.exceptions.ExceptionCreator;
+import com.vcb.edit.datefield.format.types.component.contract.Component;
+import com.vcb.edit.datefield.format.types.component.instance.BaseIndex;
+import com.vcb.edit.datefield.format.types.component.instance.DateComponent;
+import com.vcb.edit.datefield.format.types.component.instance.DateValidator;
+import com.vcb.edit.datefield.format.types.component.instance.MonthComponent;
+import com.vcb.edit.datefield.format.types.component.instance.MonthValidator;
+import com.vcb.edit.datefield.format.types.component.instance.YearComponentYY;
+import com.vcb.edit.datefield.format.types.component.instance.YearComponentYYYY;
+import com.vcb.edit.datefield.format.types.component.instance.YearValidator;
+import com.vcb.edit.datefield.format.types.variants.PatternDDMM;
+import com.vcb.edit.datefield.format.types.variants.PatternMMDD;
+import com.vcb.edit.datefield.format.types.variants.PatternMMMDD;
+
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates date formats from a pattern string at runtime. eg:- dd.MM.yyyy, yyyyMMdd, MM/dd/yy, dd MMM yyyy
+ * The pattern is parsed once into the components and separators of the format and the created
+ * format is cached by the pattern, so creating a field with a known pattern is a map lookup.
+ * Supported pattern letters are
+ * dd           - day of month
+ * MM           - month as digits
+ * MMM          - month as short name
+ * yy or yyyy   - year
+ * Every letter should occur in one run and the pattern should start with a letter.
+ * Any other character is taken as the separator after the component before it.
+ */
+public class DateFormatFactory {
+    /**
+     * Map that holds the created formats by pattern
+     */
+    private static final ConcurrentMap<String, DateFormat> formats = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     */
+    private DateFormatFactory() {
+    }
+
+    /**
+     * Returns the date format for the pattern. Creates the format if not already created.
+     * @param pattern the pattern of the date format
+     * @return DateFormat - the date format of the pattern
+     * @throws com.vcb.edit.datefield.exceptions.DateFieldInvalidArgumentException if the pattern is not supported
+     */
+    public static DateFormat get(String pattern) {
+        if(null == pattern) {
+            throw ExceptionCreator.getInvalidArgumentException("The date pattern should not be null");
+        }
+        DateFormat format = formats.get(pattern);
+        if(null == format) {
+            format = create(pattern);
+            FormatTypes.share(format);
+            DateFormat previous = formats.putIfAbsent(pattern, format);
+            if(null != previous) {
+                format = previous;
+            }
+        }
+        return format;
+    }
+
+    /**
+     * Parses the pattern and creates the date format
+     * @param pattern the pattern of the date format
+     * @return DateFormat - the date format
+     */
+    private static DateFormat create(String pattern) {
+        Map<Integer, Component> components = new LinkedHashMap<>();
+        int dayStart = -1;
+        int monthStart = -1;
+        boolean monthName = false;
+        int index = 0;
+        while(index < pattern.length()) {
+            char letter = pattern.charAt(index);
+            if(!Character.isLetter(letter)) {
+                throw invalidPattern(pattern);
+            }
+            int start = index;
+            while(index < pattern.length() && letter == pattern.charAt(index)) {
+                index++;
+            }
+            int end = index - 1;
+            while(index < pattern.length() && !Character.isLetter(pattern.charAt(index))) {
+                if('\'' == pattern.charAt(index)) {
+                    throw invalidPattern(pattern);
+                }
+                index++;
+            }
+            String separator = pattern.substring(end + 1, index);
+            int length = end - start + 1;
+            Component component;
+            if('d' == letter && 2 == length) {
+                component = new DateComponent(Calendar.DATE, new BaseIndex(start, end), separator, new DateValidator());
+                dayStart = start;
+            } else if('M' == letter && (2 == length || 3 == length)) {
+                component = new MonthComponent(Calendar.MONTH, new BaseIndex(start, end), separator, new MonthValidator());
+                monthStart = start;
+                monthName = 3 == length;
+            } else if('y' == letter && 2 == length) {
+                component = new YearComponentYY(Calendar.YEAR, new BaseIndex(start, end), separator, new YearValidator(0, 99));
+            } else if('y' == letter && 4 == length) {
+                component = new YearComponentYYYY(Calendar.YEAR, new BaseIndex(start, end), separator, new YearValidator(YearValidator.MIN_YEAR, Integer.MAX_VALUE));
+            } else {
+                throw invalidPattern(pattern);
+            }
+            if(components.containsKey(component.field())) {
+                throw invalidPattern(pattern);
+            }
+            components.put(component.field(), component);
+        }
+        if(3 != components.size()) {
+            throw invalidPattern(pattern);
+        }
+        if(monthName) {
+            return new PatternMMMDD(pattern, components);
+        }
+        return dayStart < monthStart ? new PatternDDMM(pattern, components) : new PatternMMDD(pattern, components);
+    }
+
+    /**
+     * Returns the exception for a pattern that is not supported
+     * @param pattern the pattern
+     * @return RuntimeException - the exception to throw
+     */
+    private static RuntimeException invalidPattern(String pattern) {
+        return ExceptionCreator.getInvalidArgumentException(
+                "Unsupported date pattern " + pattern + ". Supported pattern letters are dd, MM, MMM, yy and yyyy");
+    }
+}
@@ -0,0 +1,147 @@
+package com.vcb.edit.datefield.format;
+
+import com.vcb.edit.datefield.exceptions.ExceptionCreator;
+import com.vcb.edit.datefield.format.types.variants.BaseMMMDD;
+import com.vcb.edit.datefield.format.types.variants.DDMMYYYY_Hyphen;
+import com.vcb.edit.datefield.format.types.variants.DDMMYYYY_Slash;
+import com.vcb.edit.datefield.format.types.variants.DDMMYY_Hyphen;
+import com.vcb.edit.datefield.format.types.variants.DDMMYY_Slash;
+import com.vcb.edit.datefield.format.types.variants.MMMDDYYYY;
+import com.vcb.edit.datefield.format.types.variants.YYMMDD_Hyphen;
+import com.vcb.edit.datefield.format.types.variants.YYMMDD_Slash;
+import com.vcb.edit.datefield.format.types.variants.YYYYMMDD_Hyphen;
+import com.vcb.edit.datefield.format.types.variants.YYYYMMDD_Slash;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class that holds the currently supported date formats by the view out of the box,
+ * and the registry of the date formats by pattern.
+ * The formats are created on first use, so only the format in use is created.
+ * Custom formats can be registered with {@link #register(DateFormat)} and found by pattern
+ * with {@link #get(String)}, like the formats here.
+ */
+public class FormatTypes {
+    /**
+     * Map that holds the registered formats by pattern
+     */
+    private static final ConcurrentHashMap<String, DateFormat> formats = new ConcurrentHashMap<>(16);
+    /**
+     * The month name formats shared by the fields. Kept weakly, so a format no longer used is not held here.
+     */
+    private static final Set<DateFormat> sharedFormats =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<DateFormat, Boolean>()));
+
+    public static final DateFormat DD_MM_YY_SLASH = register(new BuiltInFormat("dd/MM/yy"));
+    public static final DateFormat DD_MM_YYYY_SLASH = register(new BuiltInFormat("dd/MM/yyyy"));
+    public static final DateFormat YY_MM_DD_SLASH = register(new BuiltInFormat("yy/MM/dd"));
+    public static final DateFormat YYYY_MM_DD_SLASH = register(new BuiltInFormat("yyyy/MM/dd"));
+    public static final DateFormat DD_MM_YY_HYPHEN = register(new BuiltInFormat("dd-MM-yy"));
+    public static final DateFormat DD_MM_YYYY_HYPHEN = register(new BuiltInFormat("dd-MM-yyyy"));
+    public static final DateFormat YY_MM_DD_HYPHEN = register(new BuiltInFormat("yy-MM-dd"));
+    public static final DateFormat YYYY_MM_DD_HYPHEN = register(new BuiltInFormat("yyyy-MM-dd"));
+    public static final DateFormat MMMM_DD_YYYY = register(new BuiltInFormat("MMM dd, yyyy"));
+
+    /**
+     * Constructor
+     */
+    private FormatTypes() {
+    }
+
+    /**
+     * Returns the date format for the pattern.
+     * A registered format is returned if any, else the format is created from the pattern.
+     * @param pattern the pattern of the date format
+     * @return DateFormat - the date format of the pattern
+     * @throws com.vcb.edit.datefield.exceptions.DateFieldInvalidArgumentException if the pattern is not supported
+     * @see DateFormatFactory#get(String)
+     */
+    public static DateFormat get(String pattern) {
+        DateFormat format = null == pattern ? null : formats.get(pattern);
+        return null != format ? format : DateFormatFactory.get(pattern);
+    }
+
+    /**
+     * Registers a date format by its pattern, so that it is found with get().
+     * A pattern can be registered once. The format should not change after it is registered,
+     * as it is shared by all the fields. The month map of a month name format cannot be set after.
+     * @param format the date format
+     * @return DateFormat - the format registered
+     * @throws com.vcb.edit.datefield.exceptions.DateFieldInvalidArgumentException if the pattern is already registered
+     */
+    public static DateFormat register(DateFormat format) {
+        if(null == format || null == format.format()) {
+            throw ExceptionCreator.getInvalidArgumentException("The date format should not be null");
+        }
+        DateFormat previous = formats.putIfAbsent(format.format(), format);
+        if(null != previous && previous != format) {
+            throw ExceptionCreator.getInvalidArgumentException("A date format is already registered for " + format.format());
+        }
+        share(format);
+        return format;
+    }
+
+    /**
+     * Returns whether the format is shared by the fields, as it is registered, created by a lazy format
+     * or cached by the DateFormatFactory. A shared format should not change, eg:- its month map cannot be set.
+     * @param format the date format
+     * @return boolean - shared or not
+     */
+    public static boolean isShared(DateFormat format) {
+        return format instanceof BaseMMMDD && sharedFormats.contains(format);
+    }
+
+    /**
+     * Marks a format shared by the fields as shared, so its month map cannot be set.
+     * A lazy format marks its format when it is created.
+     * @param format the date format
+     */
+    static void share(DateFormat format) {
+        if(format instanceof BaseMMMDD) {
+            sharedFormats.add(format);
+        }
+    }
+
+    /**
+     * The lazy format of the formats here, created by the pattern
+     */
+    private static final class BuiltInFormat extends LazyDateFormat {
+
+        /**
+         * Constructor
+         * @param format the pattern of one of the formats here
+         */
+        BuiltInFormat(String format) {
+            super(format);
+        }
+
+        @Override
+        protected DateFormat create() {
+            switch(format()) {
+                case "dd/MM/yy":
+                    return new DDMMYY_Slash();
+                case "dd/MM/yyyy":
+                    return new DDMMYYYY_Slash();
+                case "yy/MM/dd":
+                    return new YYMMDD_Slash();
+                case "yyyy/MM/dd":
+                    return new YYYYMMDD_Slash();
+                case "dd-MM-yy":
+                    return new DDMMYY_Hyphen();
+                case "dd-MM-yyyy":
+                    return new DDMMYYYY_Hyphen();
+                case "yy-MM-dd":
+                    return new YYMMDD_Hyphen();
+                case "yyyy-MM-dd":
+                    return new YYYYMMDD_Hyphen();
+                case "MMM dd, yyyy":
+                    return new MMMDDYYYY();
+                default:
+                    throw ExceptionCreator.getGeneralException("No date format for the pattern ", format());
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.vcb.edit.datefield.format;
+
+import com.vcb.edit.datefield.format.types.component.ComponentTable;
+import com.vcb.edit.datefield.format.types.component.contract.Component;
+
+import java.util.Map;
+
+/**
+ * Date format that creates the actual format on first use and delegates to it.
+ * The pattern and the length are known without creating the format, so holding a lazy format
+ * costs nothing till a field formats or validates with it. Only the methods of DateFormat are
+ * exposed, so a shared format cannot be changed through it.
+ * Use {@link #unwrap(DateFormat)} to get the actual format, eg:- to check its class.
+ */
+public abstract class LazyDateFormat implements DateFormat {
+    /**
+     * The pattern of the format
+     */
+    private final String format;
+    /**
+     * The actual format. Created on first use.
+     */
+    private volatile DateFormat dateFormat;
+
+    /**
+     * Constructor
+     * @param format the pattern of the format, same as the format() of the created format
+     */
+    protected LazyDateFormat(String format) {
+        this.format = format;
+    }
+
+    /**
+     * Creates the actual format. Called once, on first use.
+     * @return DateFormat - the actual format
+     */
+    protected abstract DateFormat create();
+
+    /**
+     * Returns the actual format, creating it if not already created
+     * @return DateFormat - the actual format
+     */
+    public DateFormat get() {
+        DateFormat dateFormat = this.dateFormat;
+        if(null == dateFormat) {
+            synchronized(this) {
+                dateFormat = this.dateFormat;
+                if(null == dateFormat) {
+                    dateFormat = create();
+                    FormatTypes.share(dateFormat);
+                    this.dateFormat = dateFormat;
+                }
+            }
+        }
+        return dateFormat;
+    }
+
+    /**
+     * Returns the actual format of a lazy format, or the format itself otherwise
+     * @param format the date format
+     * @return DateFormat - the actual format
+     */
+    public static DateFormat unwrap(DateFormat format) {
+        while(format instanceof LazyDateFormat) {
+            format = ((LazyDateFormat) format).get();
+        }
+        return format;
+    }
+
+    @Override
+    public String format() {
+        return format;
+    }
+
+    @Override
+    public int inputType() {
+        return get().inputType();
+    }
+
+    @Override
+    public int length() {
+        return format.length();
+    }
+
+    @Override
+    public int numberOfComponents() {
+        return get().numberOfComponents();
+    }
+
+    @Override
+    public Map<Integer, Component> components() {
+        return get().components();
+    }
+
+    @Override
+    public ComponentTable componentTable() {
+        return get().componentTable();
+    }
+
+    @Override
+    public String formatInput(Component component, String value) {
+        return get().formatInput(component, value);
+    }
+
+    @Override
+    public String formatInput(String value) {
+        return get().formatInput(value);
+    }
+
+    @Override
+    public String toString() {
+        return format;
+    }
+}
@@ -0,0 +1,217 @@
+package com.vcb.edit.datefield.format.calendar;
+
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * Methods to convert the dates to and from epoch days.
+ * An epoch day is the number of days since 1970-01-01 in the proleptic Gregorian calendar.
+ * Month values in this class are 1 based. ie, January is 1 and December is 12.
+ */
+public final class EpochDays {
+    /**
+     * The value of February
+     */
+    public static final int FEBRUARY = 2;
+    /**
+     * The largest tens digit of a day of February, as it has 29 days at most
+     */
+    public static final int MAX_FEBRUARY_DAY_TENS = 2;
+    /**
+     * Number of days in each month of a common year, by month
+     */
+    private static final int[] DAYS_IN_MONTH = {0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+    /**
+     * Number of days in each month of a leap year, by month
+     */
+    private static final int[] DAYS_IN_MONTH_LEAP = {0, 31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+    /**
+     * Number of days in a 400 year cycle
+     */
+    private static final int DAYS_PER_CYCLE = 146097;
+    /**
+     * Number of days from 0000-03-01 to 1970-01-01
+     */
+    private static final int DAYS_0000_TO_1970 = 719468;
+    /**
+     * Number of milliseconds in a day
+     */
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    /**
+     * Constructor
+     */
+    private EpochDays() {
+    }
+
+    /**
+     * Returns whether the year is a leap year
+     * @param year the year
+     * @return boolean - leap year or not
+     */
+    public static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Returns the number of days in the month of the year
+     * @param year the year
+     * @param month the month from 1 to 12
+     * @return int - the number of days in the month. 31 if the month is not from 1 to 12.
+     */
+    public static int lengthOfMonth(int year, int month) {
+        if(month < 1 || month > 12) {
+            return 31;
+        }
+        return isLeapYear(year) ? DAYS_IN_MONTH_LEAP[month] : DAYS_IN_MONTH[month];
+    }
+
+    /**
+     * Returns the number of days in the month of a leap year, the most the month can have
+     * @param month the month from 1 to 12
+     * @return int - the maximum number of days in the month. 31 if the month is not from 1 to 12.
+     */
+    public static int maxLengthOfMonth(int month) {
+        return month < 1 || month > 12 ? 31 : DAYS_IN_MONTH_LEAP[month];
+    }
+
+    /**
+     * Checks whether the year, month and day is a date
+     * @param year the year, from 1
+     * @param month the month from 1 to 12
+     * @param day the day of the month
+     * @return boolean - a date or not
+     */
+    public static boolean isValid(int year, int month, int day) {
+        return year >= 1 && month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month);
+    }
+
+    /**
+     * Returns the epoch day of the date.
+     * The values are not validated. Use {@link #lengthOfMonth(int, int)} to check the day.
+     * @param year the year
+     * @param month the month from 1 to 12
+     * @param day the day of the month
+     * @return int - the epoch day
+     */
+    public static int of(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Returns the year of the epoch day
+     * @param epochDay the epoch day
+     * @return int - the year
+     */
+    public static int yearOf(int epochDay) {
+        return (int) (toYearMonthDay(epochDay) >> 9);
+    }
+
+    /**
+     * Returns the month of the epoch day
+     * @param epochDay the epoch day
+     * @return int - the month from 1 to 12
+     */
+    public static int monthOf(int epochDay) {
+        return (int) (toYearMonthDay(epochDay) >> 5) & 0xF;
+    }
+
+    /**
+     * Returns the day of the month of the epoch day
+     * @param epochDay the epoch day
+     * @return int - the day of the month
+     */
+    public static int dayOfMonthOf(int epochDay) {
+        return (int) toYearMonthDay(epochDay) & 0x1F;
+    }
+
+    /**
+     * Returns the year, month and day of the epoch day packed as year << 9 | month << 5 | day.
+     * The packed values of two dates compare the same as the dates.
+     * @param epochDay the epoch day
+     * @return long - the packed year, month and day
+     */
+    public static long toYearMonthDay(int epochDay) {
+        long z = epochDay + (long) DAYS_0000_TO_1970;
+        long era = (z >= 0 ? z : z - DAYS_PER_CYCLE + 1) / DAYS_PER_CYCLE;
+        long dayOfEra = z - era * DAYS_PER_CYCLE;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / (DAYS_PER_CYCLE - 1)) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year << 9 | month << 5 | day;
+    }
+
+    /**
+     * Returns the epoch day of the date with lenient month and day values.
+     * Month 13 is treated as January of the next year and day 0 as the last day of the previous month.
+     * @param year the year
+     * @param month the month, 1 to 12 are in the year
+     * @param day the day, 1 to the length of the month are in the month
+     * @return int - the epoch day
+     */
+    public static int ofLenient(int year, int month, int day) {
+        int monthIndex = month - 1;
+        int yearOffset = monthIndex >= 0 ? monthIndex / 12 : (monthIndex - 11) / 12;
+        return of(year + yearOffset, monthIndex - yearOffset * 12 + 1, 1) + day - 1;
+    }
+
+    /**
+     * Returns the epoch day of the instant in the default time zone
+     * @param milliseconds the milliseconds since 1970-01-01T00:00:00Z
+     * @return int - the epoch day
+     */
+    public static int ofMillis(long milliseconds) {
+        long localMillis = milliseconds + TimeZone.getDefault().getOffset(milliseconds);
+        long epochDay = localMillis / MILLIS_PER_DAY;
+        if(localMillis % MILLIS_PER_DAY < 0) {
+            epochDay--;
+        }
+        return (int) epochDay;
+    }
+
+    /**
+     * Returns the epoch day of the current date in the default time zone
+     * @return int - the epoch day of today
+     */
+    public static int today() {
+        return ofMillis(System.currentTimeMillis());
+    }
+
+    /**
+     * Returns the epoch day of the date in the default time zone
+     * @param date the date
+     * @return int - the epoch day
+     */
+    public static int ofDate(Date date) {
+        return ofMillis(date.getTime());
+    }
+
+    /**
+     * Returns the milliseconds at the start of the epoch day in the default time zone
+     * @param epochDay the epoch day
+     * @return long - the milliseconds since 1970-01-01T00:00:00Z
+     */
+    public static long toMillis(int epochDay) {
+        TimeZone timeZone = TimeZone.getDefault();
+        long localMillis = epochDay * MILLIS_PER_DAY;
+        long guess = localMillis - timeZone.getOffset(localMillis - timeZone.getRawOffset());
+        return localMillis - timeZone.getOffset(guess);
+    }
+
+    /**
+     * Returns the date at the start of the epoch day in the default time zone
+     * @param epochDay the epoch day
+     * @return java.util.Date - the date
+     */
+    public static Date toDate(int epochDay) {
+        return new Date(toMillis(epochDay));
+    }
+}
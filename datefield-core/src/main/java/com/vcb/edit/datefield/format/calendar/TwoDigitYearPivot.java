@@ -0,0 +1,103 @@
+package com.vcb.edit.datefield.format.calendar;
+
+/**
+ * Resolves the two digit years of the yy formats to full years, the same way as SimpleDateFormat.
+ * The two digit years are in the 100 years that start 80 years before the current date. eg:- on
+ * 2020-06-15 the years 40 to 99 are 1940 to 1999, 00 to 39 are 2000 to 2039, and 40 is 2040 for
+ * the dates after 2040-06-15.
+ * The start of the century is found with EpochDays, so no Calendar is created for it.
+ * The pivot is immutable and can be shared across threads.
+ */
+public final class TwoDigitYearPivot {
+    /**
+     * Number of years before the current date where the two digit years start from.
+     * Same as in SimpleDateFormat.
+     */
+    public static final int YEARS_BEFORE = 80;
+    /**
+     * The first year of the century in which two digit years are resolved
+     */
+    private final int startYear;
+    /**
+     * The epoch day of the start of the century in which two digit years are resolved
+     */
+    private final int startEpochDay;
+
+    /**
+     * Constructor
+     * @param epochDay the epoch day of the current date
+     */
+    public TwoDigitYearPivot(int epochDay) {
+        long yearMonthDay = EpochDays.toYearMonthDay(epochDay);
+        int year = (int) (yearMonthDay >> 9) - YEARS_BEFORE;
+        int month = (int) (yearMonthDay >> 5) & 0xF;
+        /** 29 February goes to 28 February in a common year, as Calendar.add() does. */
+        int day = Math.min((int) yearMonthDay & 0x1F, EpochDays.lengthOfMonth(year, month));
+        this.startYear = year;
+        this.startEpochDay = EpochDays.of(year, month, day);
+    }
+
+    /**
+     * Returns the pivot of the current date in the default time zone
+     * @return TwoDigitYearPivot - the pivot
+     */
+    public static TwoDigitYearPivot now() {
+        return new TwoDigitYearPivot(EpochDays.today());
+    }
+
+    /**
+     * Returns the first year of the century in which two digit years are resolved
+     * @return int - the year
+     */
+    public int getStartYear() {
+        return startYear;
+    }
+
+    /**
+     * Returns the epoch day of the start of the century in which two digit years are resolved
+     * @return int - the epoch day
+     */
+    public int getStartEpochDay() {
+        return startEpochDay;
+    }
+
+    /**
+     * Returns the full year of a two digit year, from the start year to 99 years after it.
+     * The two digit year of the start year can also be 100 years after it, for the dates
+     * not after the start of the century, see {@link #toEpochDay(int, int, int)}.
+     * @param twoDigitYear the two digit year from 0 to 99
+     * @return int - the full year
+     */
+    public int toYear(int twoDigitYear) {
+        int startOfCentury = startYear % 100;
+        return twoDigitYear + (startYear / 100) * 100 + (twoDigitYear < startOfCentury ? 100 : 0);
+    }
+
+    /**
+     * Returns the epoch day of the date of a two digit year.
+     * The values are not validated. Use {@link EpochDays#isValid(int, int, int)} with the full year to check the date.
+     * @param twoDigitYear the two digit year from 0 to 99
+     * @param month the month from 1 to 12
+     * @param day the day of the month
+     * @return int - the epoch day
+     */
+    public int toEpochDay(int twoDigitYear, int month, int day) {
+        return EpochDays.of(toFullYear(twoDigitYear, month, day), month, day);
+    }
+
+    /**
+     * Returns the full year of the date of a two digit year.
+     * The dates of the start year not after the start of the century are in the next century.
+     * @param twoDigitYear the two digit year from 0 to 99
+     * @param month the month from 1 to 12
+     * @param day the day of the month
+     * @return int - the full year
+     */
+    public int toFullYear(int twoDigitYear, int month, int day) {
+        int year = toYear(twoDigitYear);
+        if(year == startYear && EpochDays.ofLenient(year, month, day) <= startEpochDay) {
+            return year + 100;
+        }
+        return year;
+    }
+}
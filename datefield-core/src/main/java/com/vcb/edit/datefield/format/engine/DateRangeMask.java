@@ -0,0 +1,244 @@
+package com.vcb.edit.datefield.format.engine;
+
+import com.vcb.edit.datefield.format.DateFormat;
+import com.vcb.edit.datefield.format.LazyDateFormat;
+import com.vcb.edit.datefield.format.calendar.EpochDays;
+import com.vcb.edit.datefield.format.calendar.TwoDigitYearPivot;
+import com.vcb.edit.datefield.format.month.MonthNameMatcher;
+import com.vcb.edit.datefield.format.types.component.ComponentTable;
+import com.vcb.edit.datefield.format.types.variants.BaseMMMDD;
+
+import java.util.Calendar;
+
+/**
+ * Checks whether a partly typed date can still be completed to a date in a range.
+ * The typed digits of a component limit its value to an interval, eg:- the year 19 of yyyy is one
+ * of 1900 to 1999, and the text can be completed if the smallest date of the intervals that is
+ * not before the minimum date is not after the maximum date.
+ * The start and end of each component are kept in tables, made once for the format and the range,
+ * so a check reads the typed digits and compares a few ints.
+ * The days of the months are not checked here, eg:- 30 February passes, as the full validation does that.
+ * Use {@link #of(DateFormat, int, int)} to get a mask. The mask is immutable and can be shared across threads.
+ */
+public final class DateRangeMask {
+    /** The epoch day used when there is no minimum date. */
+    public static final int NO_MIN_DATE = Integer.MIN_VALUE;
+    /** The epoch day used when there is no maximum date. */
+    public static final int NO_MAX_DATE = Integer.MAX_VALUE;
+    /** Index of the year in the position tables. */
+    private static final int YEAR = 0;
+    /** Index of the month in the position tables. */
+    private static final int MONTH = 1;
+    /** Index of the day in the position tables. */
+    private static final int DAY = 2;
+    /** The powers of ten by the number of digits not typed. */
+    private static final int[] POWERS = {1, 10, 100, 1000, 10000};
+
+    /** The start index of the year, month and day. */
+    private final int[] starts;
+    /** The end index of the year, month and day. */
+    private final int[] ends;
+    /** The matcher of a month name or null if the month is digits. */
+    private final MonthNameMatcher monthNameMatcher;
+    /** Whether the year has only two digits. */
+    private final boolean twoDigitYear;
+    /** The first year of the century in which two digit years are resolved. */
+    private final int centuryStartYear;
+    /** The minimum date packed as in EpochDays.toYearMonthDay() or Long.MIN_VALUE. */
+    private final long min;
+    /** The maximum date packed as in EpochDays.toYearMonthDay() or Long.MAX_VALUE. */
+    private final long max;
+
+    /**
+     * Constructor
+     */
+    private DateRangeMask(int[] starts, int[] ends, MonthNameMatcher monthNameMatcher, int minEpochDay, int maxEpochDay) {
+        this.starts = starts;
+        this.ends = ends;
+        this.monthNameMatcher = monthNameMatcher;
+        this.twoDigitYear = 2 == ends[YEAR] - starts[YEAR] + 1;
+        this.centuryStartYear = TwoDigitYearPivot.now().getStartYear();
+        this.min = NO_MIN_DATE == minEpochDay ? Long.MIN_VALUE : EpochDays.toYearMonthDay(minEpochDay);
+        this.max = NO_MAX_DATE == maxEpochDay ? Long.MAX_VALUE : EpochDays.toYearMonthDay(maxEpochDay);
+    }
+
+    /**
+     * Returns the mask for the format and the range
+     * @param format the date format
+     * @param minEpochDay the epoch day of the minimum date or NO_MIN_DATE
+     * @param maxEpochDay the epoch day of the maximum date or NO_MAX_DATE
+     * @return DateRangeMask - the mask, or null if there is no range or the format is not supported.
+     *          The formats with the day and year as digits and the month as digits or a month name are supported.
+     */
+    public static DateRangeMask of(DateFormat format, int minEpochDay, int maxEpochDay) {
+        if(null == format || NO_MIN_DATE == minEpochDay && NO_MAX_DATE == maxEpochDay) {
+            return null;
+        }
+        ComponentTable table = format.componentTable();
+        if(null == table || ComponentTable.NO_COMPONENT == table.positionOf(Calendar.YEAR)
+                || ComponentTable.NO_COMPONENT == table.positionOf(Calendar.MONTH)
+                || ComponentTable.NO_COMPONENT == table.positionOf(Calendar.DATE)) {
+            return null;
+        }
+        int[] starts = {table.startOf(Calendar.YEAR), table.startOf(Calendar.MONTH), table.startOf(Calendar.DATE)};
+        int[] ends = {table.endOf(Calendar.YEAR), table.endOf(Calendar.MONTH), table.endOf(Calendar.DATE)};
+        int yearLength = ends[YEAR] - starts[YEAR] + 1;
+        int monthLength = ends[MONTH] - starts[MONTH] + 1;
+        if(2 != yearLength && 4 != yearLength || 2 != ends[DAY] - starts[DAY] + 1) {
+            return null;
+        }
+        MonthNameMatcher monthNameMatcher = null;
+        DateFormat actual = LazyDateFormat.unwrap(format);
+        if(actual instanceof BaseMMMDD) {
+            monthNameMatcher = ((BaseMMMDD) actual).getMonthNameMatcher();
+        } else if(2 != monthLength) {
+            return null;
+        }
+        return new DateRangeMask(starts, ends, monthNameMatcher, minEpochDay, maxEpochDay);
+    }
+
+    /**
+     * Checks whether the text can be completed to a date in the range
+     * @param text the typed text
+     * @return boolean - can be completed or not. True if the text cannot be read, eg:- a letter for a digit.
+     */
+    public boolean isCompletable(CharSequence text) {
+        return isCompletable(text, null, text.length());
+    }
+
+    /**
+     * Checks whether the text in the buffer can be completed to a date in the range
+     * @param buffer the buffer
+     * @param length the length of the text in the buffer
+     * @return boolean - can be completed or not. True if the text cannot be read, eg:- a letter for a digit.
+     */
+    public boolean isCompletable(char[] buffer, int length) {
+        return isCompletable(null, buffer, length);
+    }
+
+    /**
+     * Checks whether the text can be completed.
+     * The characters are read from the text if not null, or from the buffer.
+     */
+    private boolean isCompletable(CharSequence text, char[] buffer, int length) {
+        long year = readPrefix(text, buffer, length, YEAR);
+        long month;
+        if(null != monthNameMatcher) {
+            month = readMonthName(text, buffer, length);
+        } else {
+            month = readPrefix(text, buffer, length, MONTH);
+        }
+        long day = readPrefix(text, buffer, length, DAY);
+        if(year < 0 || month < 0 || day < 0) {
+            return true;
+        }
+        int monthLow = Math.max(1, low(month));
+        int monthHigh = Math.min(12, high(month));
+        int dayLow = Math.max(1, low(day));
+        int dayHigh = Math.min(31, high(day));
+        if(monthLow > monthHigh || dayLow > dayHigh) {
+            return false;
+        }
+        int yearLow = low(year);
+        int yearHigh = high(year);
+        if(!twoDigitYear) {
+            return isInRange(yearLow, yearHigh, monthLow, monthHigh, dayLow, dayHigh);
+        }
+        /** The two digit years from the start of the century are in its first century, the others in the next. */
+        int startOfCentury = centuryStartYear % 100;
+        int century = (centuryStartYear / 100) * 100;
+        int low = Math.max(yearLow, startOfCentury);
+        if(low <= yearHigh && isInRange(century + low, century + yearHigh, monthLow, monthHigh, dayLow, dayHigh)) {
+            return true;
+        }
+        int high = Math.min(yearHigh, startOfCentury);
+        return yearLow <= high && isInRange(century + 100 + yearLow, century + 100 + high,
+                monthLow, monthHigh, dayLow, dayHigh);
+    }
+
+    /**
+     * Checks whether any date in the intervals of the year, month and day is in the range.
+     * The smallest date not before the minimum is found and compared with the maximum.
+     */
+    private boolean isInRange(int yearLow, int yearHigh, int monthLow, int monthHigh, int dayLow, int dayHigh) {
+        long date;
+        if(Long.MIN_VALUE == min || pack(yearLow, monthLow, dayLow) >= min) {
+            date = pack(yearLow, monthLow, dayLow);
+        } else {
+            int minYear = (int) (min >> 9);
+            int minMonth = (int) (min >> 5) & 0xF;
+            int minDay = (int) min & 0x1F;
+            if(yearHigh < minYear) {
+                return false;
+            } else if(yearLow > minYear) {
+                date = pack(yearLow, monthLow, dayLow);
+            } else if(monthHigh < minMonth || monthHigh == minMonth && dayHigh < minDay) {
+                /** Nothing in the minimum year from the minimum month and day. */
+                if(minYear + 1 > yearHigh) {
+                    return false;
+                }
+                date = pack(minYear + 1, monthLow, dayLow);
+            } else if(monthLow > minMonth) {
+                date = pack(minYear, monthLow, dayLow);
+            } else if(dayHigh >= minDay) {
+                date = pack(minYear, minMonth, Math.max(dayLow, minDay));
+            } else {
+                date = pack(minYear, minMonth + 1, dayLow);
+            }
+        }
+        return date <= max;
+    }
+
+    /**
+     * Reads the digits typed for a component
+     * @return long - the value of the digits in the high int and the number of digits not typed in the low int,
+     *          or -1 if a character is not a digit
+     */
+    private long readPrefix(CharSequence text, char[] buffer, int length, int component) {
+        int value = 0;
+        int count = 0;
+        int end = Math.min(ends[component], length - 1);
+        for(int i = starts[component]; i <= end; i++) {
+            int digit = (null != text ? text.charAt(i) : buffer[i]) - '0';
+            if(digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+            count++;
+        }
+        return (long) value << 32 | ends[component] - starts[component] + 1 - count;
+    }
+
+    /**
+     * Reads the month name, if typed
+     * @return long - the month as in readPrefix(), any month if the name is not typed, or -1 if not a month name
+     */
+    private long readMonthName(CharSequence text, char[] buffer, int length) {
+        if(length <= ends[MONTH]) {
+            return 2;
+        }
+        int month = null != text ? monthNameMatcher.match(text, starts[MONTH]) : monthNameMatcher.match(buffer, starts[MONTH]);
+        return MonthNameMatcher.NO_MONTH == month ? -1 : (long) month << 32;
+    }
+
+    /**
+     * Returns the smallest value of the digits read
+     */
+    private int low(long digits) {
+        return (int) (digits >>> 32) * POWERS[(int) digits];
+    }
+
+    /**
+     * Returns the largest value of the digits read
+     */
+    private int high(long digits) {
+        return ((int) (digits >>> 32) + 1) * POWERS[(int) digits] - 1;
+    }
+
+    /**
+     * Packs the date as in EpochDays.toYearMonthDay()
+     */
+    private static long pack(int year, int month, int day) {
+        return (long) year << 9 | month << 5 | day;
+    }
+}
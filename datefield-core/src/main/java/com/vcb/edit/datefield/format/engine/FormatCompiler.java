@@ -0,0 +1,153 @@
+package com.vcb.edit.datefield.format.engine;
+
+import com.vcb.edit.datefield.format.DateFormat;
+import com.vcb.edit.datefield.format.LazyDateFormat;
+import com.vcb.edit.datefield.format.month.MonthNameMatcher;
+import com.vcb.edit.datefield.format.types.base.BaseDateFormat;
+import com.vcb.edit.datefield.format.types.component.contract.Component;
+import com.vcb.edit.datefield.format.types.component.contract.Validator;
+import com.vcb.edit.datefield.format.types.variants.BaseDDMM;
+import com.vcb.edit.datefield.format.types.variants.BaseMMDD;
+import com.vcb.edit.datefield.format.types.variants.BaseMMMDD;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compiles the component table of a date format into the per position tables of a KeystrokeEngine.
+ * Only the formats whose formatInput() is one of BaseDateFormat, BaseDDMM, BaseMMDD or BaseMMMDD
+ * can be compiled, as the engine implements the rules of those classes. Other formats and formats
+ * whose components and separators do not cover the whole format return null, so that they keep
+ * formatting through DateFormat.formatInput().
+ */
+public final class FormatCompiler {
+
+    /**
+     * Constructor
+     */
+    private FormatCompiler() {
+    }
+
+    /**
+     * Compiles the date format
+     * @param format the date format
+     * @return KeystrokeEngine - the engine or null if the format cannot be compiled
+     */
+    public static KeystrokeEngine compile(DateFormat format) {
+        format = LazyDateFormat.unwrap(format);
+        if(null == format || null == format.format() || null == format.components()) {
+            return null;
+        }
+        Class<?> rules = getFormatInputClass(format);
+        if(null == rules) {
+            return null;
+        }
+        List<Component> components = new ArrayList<>(format.components().values());
+        if(components.isEmpty()) {
+            return null;
+        }
+        Collections.sort(components, new Comparator<Component>() {
+            @Override
+            public int compare(Component first, Component second) {
+                return first.index().getStart() - second.index().getStart();
+            }
+        });
+        int length = format.length();
+        int size = components.size();
+        int[] componentAt = new int[length];
+        int[] separatorOwnerAt = new int[length];
+        int[] starts = new int[size];
+        int[] ends = new int[size];
+        char[][] separators = new char[size][];
+        int[] minValues = new int[size];
+        int[] maxValues = new int[size];
+        Validator[] validators = new Validator[size];
+        int[] maxStartDigits = new int[size];
+        boolean[] textComponents = new boolean[size];
+        int dayComponent = -1;
+        int monthComponent = -1;
+        boolean monthNames = BaseMMMDD.class == rules;
+        int position = 0;
+        for(int i = 0; i < size; i++) {
+            Component component = components.get(i);
+            String separator = null == component.separator() ? "" : component.separator();
+            if(component.index().getStart() != position || component.index().getEnd() < position) {
+                return null;
+            }
+            starts[i] = component.index().getStart();
+            ends[i] = component.index().getEnd();
+            separators[i] = separator.toCharArray();
+            minValues[i] = component.minValue();
+            maxValues[i] = component.maxValue();
+            validators[i] = component.validator();
+            maxStartDigits[i] = component.maxStartDigit();
+            if(Calendar.DATE == component.field()) {
+                dayComponent = i;
+            } else if(Calendar.MONTH == component.field()) {
+                monthComponent = i;
+                textComponents[i] = monthNames;
+            }
+            for(; position <= ends[i]; position++) {
+                if(position >= length) {
+                    return null;
+                }
+                componentAt[position] = i;
+                separatorOwnerAt[position] = -1;
+            }
+            for(int j = 0; j < separators[i].length; j++, position++) {
+                if(position >= length) {
+                    return null;
+                }
+                componentAt[position] = -1;
+                separatorOwnerAt[position] = i;
+            }
+        }
+        if(position != length) {
+            return null;
+        }
+        MonthNameMatcher monthNameMatcher = monthNames ? ((BaseMMMDD) format).getMonthNameMatcher() : null;
+        return new KeystrokeEngine(length, componentAt, separatorOwnerAt, starts, ends, separators,
+                minValues, maxValues, validators, maxStartDigits, textComponents, dayComponent, monthComponent,
+                getFebruaryRule(rules, dayComponent < monthComponent), monthNames, monthNameMatcher);
+    }
+
+    /**
+     * Returns the class that implements formatInput() of the format, if its rules are known.
+     * @param format the date format
+     * @return Class - the class with the rules or null if unknown
+     */
+    private static Class<?> getFormatInputClass(DateFormat format) {
+        try {
+            if(BaseDateFormat.class != format.getClass().getMethod("formatInput", String.class).getDeclaringClass()) {
+                return null;
+            }
+            Class<?> declaringClass = format.getClass()
+                    .getMethod("formatInput", Component.class, String.class).getDeclaringClass();
+            if(BaseDateFormat.class == declaringClass || BaseDDMM.class == declaringClass
+                    || BaseMMDD.class == declaringClass || BaseMMMDD.class == declaringClass) {
+                return declaringClass;
+            }
+        } catch (Exception ex) {
+        }
+        return null;
+    }
+
+    /**
+     * Returns the February rule of the class with the rules
+     * @param rules the class with the rules
+     * @param dayBeforeMonth whether the day is before the month in the format
+     * @return int - the February rule
+     */
+    private static int getFebruaryRule(Class<?> rules, boolean dayBeforeMonth) {
+        if(BaseDDMM.class == rules || BaseMMMDD.class == rules && dayBeforeMonth) {
+            return KeystrokeEngine.RULE_DAY_BEFORE_MONTH;
+        }
+        if(BaseMMDD.class == rules || BaseMMMDD.class == rules) {
+            return KeystrokeEngine.RULE_MONTH_BEFORE_DAY;
+        }
+        return KeystrokeEngine.RULE_NONE;
+    }
+}
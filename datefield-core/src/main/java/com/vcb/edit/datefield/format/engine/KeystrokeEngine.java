@@ -0,0 +1,297 @@
+package com.vcb.edit.datefield.format.engine;
+
+import com.vcb.edit.datefield.format.calendar.EpochDays;
+import com.vcb.edit.datefield.format.month.MonthNameMatcher;
+import com.vcb.edit.datefield.format.types.component.contract.Validator;
+
+/**
+ * Applies the keystrokes of a compiled date format to a character buffer.
+ * Each position of the format is either a character of a component or a character of the
+ * separator after a component, and the decision for a typed character is taken from the
+ * tables of that position. So every keystroke takes constant time and allocates nothing.
+ * The results are the same as of DateFormat.formatInput() of the compiled format,
+ * for characters typed at the end of the text.
+ * Use {@link FormatCompiler#compile(com.vcb.edit.datefield.format.DateFormat)} to get an engine.
+ * The engine is immutable and can be shared across threads. The buffer belongs to the caller.
+ */
+public final class KeystrokeEngine {
+    /** No February rule. */
+    static final int RULE_NONE = 0;
+    /** The month is typed after the day. eg:- dd/MM/yyyy, dd MMM yyyy */
+    static final int RULE_DAY_BEFORE_MONTH = 1;
+    /** The day is typed after the month. eg:- yyyy/MM/dd */
+    static final int RULE_MONTH_BEFORE_DAY = 2;
+    /** The last day of February accepted while typing. */
+    private static final int FEBRUARY_MAX_DAY = EpochDays.maxLengthOfMonth(EpochDays.FEBRUARY);
+    /** The value of February. */
+    private static final int FEBRUARY = EpochDays.FEBRUARY;
+
+    /** Length of the format */
+    private final int length;
+    /** Component at each position or -1 if the position is a separator */
+    private final int[] componentAt;
+    /** Component owning the separator at each position or -1 if the position is in a component */
+    private final int[] separatorOwnerAt;
+    /** Start index of each component */
+    private final int[] starts;
+    /** End index of each component */
+    private final int[] ends;
+    /** Separator after each component */
+    private final char[][] separators;
+    /** Minimum value of each component */
+    private final int[] minValues;
+    /** Maximum value of each component */
+    private final int[] maxValues;
+    /** Validator of each component or null */
+    private final Validator[] validators;
+    /** Maximum first digit of each component */
+    private final int[] maxStartDigits;
+    /** Whether each component is a month name instead of digits */
+    private final boolean[] textComponents;
+    /** Index of the day component or -1 */
+    private final int dayComponent;
+    /** Index of the month component or -1 */
+    private final int monthComponent;
+    /** The February rule of the format */
+    private final int februaryRule;
+    /** Whether the format drops the component on a non digit character instead of the character */
+    private final boolean dropComponentOnNonDigit;
+    /** Matcher of the month names of a text month component */
+    private final MonthNameMatcher monthNameMatcher;
+
+    KeystrokeEngine(int length, int[] componentAt, int[] separatorOwnerAt, int[] starts, int[] ends,
+                    char[][] separators, int[] minValues, int[] maxValues, Validator[] validators,
+                    int[] maxStartDigits, boolean[] textComponents, int dayComponent, int monthComponent, int februaryRule,
+                    boolean dropComponentOnNonDigit, MonthNameMatcher monthNameMatcher) {
+        this.length = length;
+        this.componentAt = componentAt;
+        this.separatorOwnerAt = separatorOwnerAt;
+        this.starts = starts;
+        this.ends = ends;
+        this.separators = separators;
+        this.minValues = minValues;
+        this.maxValues = maxValues;
+        this.validators = validators;
+        this.maxStartDigits = maxStartDigits;
+        this.textComponents = textComponents;
+        this.dayComponent = dayComponent;
+        this.monthComponent = monthComponent;
+        this.februaryRule = februaryRule;
+        this.dropComponentOnNonDigit = dropComponentOnNonDigit;
+        this.monthNameMatcher = monthNameMatcher;
+    }
+
+    /**
+     * Returns the length of the format. The buffer should have at least this capacity.
+     * @return int - length of the format
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Applies a character typed at the end of the buffer.
+     * The character can be accepted, padded with 0, followed by the separator of the component,
+     * preceded by a missing separator or rejected. A rejected value at the end of a component
+     * can also drop the previous characters of the component, as in DateFormat.formatInput().
+     * A letter of a month name is rejected when no month name starts with the letters typed,
+     * or when it finishes February after a day more than the days of February,
+     * and a finished month name is rewritten as in the month names.
+     * @param buffer the buffer with the current text
+     * @param length the length of the current text in the buffer
+     * @param c the typed character
+     * @return int - the new length of the text in the buffer
+     */
+    public int append(char[] buffer, int length, char c) {
+        if(length >= this.length) {
+            return length;
+        }
+        int owner = separatorOwnerAt[length];
+        if(owner >= 0) {
+            /** The separator is missing. Eg:- deleted till 12 in 12/31 and typed again. */
+            length = writeSeparator(buffer, owner, ends[owner] + 1);
+            if(length >= this.length) {
+                return length;
+            }
+        }
+        int component = componentAt[length];
+        buffer[length] = c;
+        return accept(buffer, component, length, c);
+    }
+
+    /**
+     * Applies a character typed at the end of the buffer, as in append(char[], int, char),
+     * and rejects it if the text cannot be completed to a date in the range of the mask.
+     * @param buffer the buffer with the current text
+     * @param length the length of the current text in the buffer
+     * @param c the typed character
+     * @param rangeMask the range mask or null for no range
+     * @return int - the new length of the text in the buffer
+     */
+    public int append(char[] buffer, int length, char c, DateRangeMask rangeMask) {
+        int next = append(buffer, length, c);
+        if(null != rangeMask && next > length && !rangeMask.isCompletable(buffer, next)) {
+            return length;
+        }
+        return next;
+    }
+
+    /**
+     * Applies the characters of the text from the given index to the buffer one by one.
+     * The characters before the index are copied to the buffer as they are.
+     * @param text the text
+     * @param from the index of the first character to apply
+     * @param buffer the buffer to write to
+     * @return int - the length of the text in the buffer
+     */
+    public int apply(CharSequence text, int from, char[] buffer) {
+        return apply(text, from, buffer, null);
+    }
+
+    /**
+     * Applies the characters of the text from the given index to the buffer one by one,
+     * rejecting the characters after which the text cannot be completed to a date in the range.
+     * @param text the text
+     * @param from the index of the first character to apply
+     * @param buffer the buffer to write to
+     * @param rangeMask the range mask or null for no range
+     * @return int - the length of the text in the buffer
+     */
+    public int apply(CharSequence text, int from, char[] buffer, DateRangeMask rangeMask) {
+        int size = Math.min(Math.min(from, text.length()), this.length);
+        for(int i = 0; i < size; i++) {
+            buffer[i] = text.charAt(i);
+        }
+        for(int i = from; i < text.length(); i++) {
+            size = append(buffer, size, text.charAt(i), rangeMask);
+        }
+        return size;
+    }
+
+    /**
+     * Decides on a character at the position of a component
+     * @param buffer the buffer
+     * @param component the component index
+     * @param position the position of the character
+     * @param c the character
+     * @return int - the new length
+     */
+    private int accept(char[] buffer, int component, int position, char c) {
+        int start = starts[component];
+        int end = ends[component];
+        if(textComponents[component]) {
+            if(!monthNameMatcher.isPrefix(buffer, start, position - start + 1)) {
+                return position;
+            }
+            if(position < end) {
+                return position + 1;
+            }
+            int month = monthNameMatcher.match(buffer, start);
+            if(RULE_DAY_BEFORE_MONTH == februaryRule && FEBRUARY == month && readDay(buffer, start) > FEBRUARY_MAX_DAY) {
+                return position;
+            }
+            monthNameMatcher.copyName(month, buffer, start);
+            return completeComponent(buffer, component, month, position);
+        }
+        int digit = c - '0';
+        if(digit < 0 || digit > 9) {
+            return dropComponentOnNonDigit ? start : position;
+        }
+        if(position == start && isFebruaryRejected(buffer, component, digit)) {
+            return position;
+        }
+        if(position == end && RULE_DAY_BEFORE_MONTH == februaryRule && component == monthComponent
+                && FEBRUARY == readValue(buffer, start, end) && readDay(buffer, position) > FEBRUARY_MAX_DAY) {
+            return start + 1;
+        }
+        if(position == start && position < end && digit > maxStartDigits[component]) {
+            /** For adding 0 to the beginning. eg for date, 4 -> 04 */
+            buffer[position] = '0';
+            buffer[position + 1] = c;
+            return writeSeparator(buffer, component, position + 2);
+        }
+        if(position == end) {
+            return completeComponent(buffer, component, readValue(buffer, start, end), position);
+        }
+        return position + 1;
+    }
+
+    /**
+     * Checks the value of a finished component and adds the separator
+     * @return int - the new length
+     */
+    private int completeComponent(char[] buffer, int component, int value, int position) {
+        if(value < minValues[component] || value > maxValues[component]
+                || null != validators[component] && !validators[component].isValid(value)) {
+            return starts[component] + 1;
+        }
+        return writeSeparator(buffer, component, position + 1);
+    }
+
+    /**
+     * Checks the first digit of the component against February.
+     * A day of 30 or 31 cannot be followed by month 2, and month 2 cannot be followed by a day
+     * that starts with 3 or more.
+     * @return boolean - rejected or not
+     */
+    private boolean isFebruaryRejected(char[] buffer, int component, int digit) {
+        if(RULE_DAY_BEFORE_MONTH == februaryRule && component == monthComponent) {
+            return FEBRUARY == digit && readDay(buffer, starts[component]) > FEBRUARY_MAX_DAY;
+        }
+        if(RULE_MONTH_BEFORE_DAY == februaryRule && component == dayComponent && digit > EpochDays.MAX_FEBRUARY_DAY_TENS) {
+            return FEBRUARY == readMonth(buffer, starts[component]);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the value of the day if the day is before the position
+     */
+    private int readDay(char[] buffer, int position) {
+        if(dayComponent < 0 || ends[dayComponent] >= position) {
+            return Integer.MIN_VALUE;
+        }
+        return readValue(buffer, starts[dayComponent], ends[dayComponent]);
+    }
+
+    /**
+     * Returns the value of the month if the month is before the position
+     */
+    private int readMonth(char[] buffer, int position) {
+        if(monthComponent < 0 || ends[monthComponent] >= position) {
+            return Integer.MIN_VALUE;
+        }
+        if(textComponents[monthComponent]) {
+            return monthNameMatcher.match(buffer, starts[monthComponent]);
+        }
+        return readValue(buffer, starts[monthComponent], ends[monthComponent]);
+    }
+
+    /**
+     * Reads the digits from start to end index inclusive
+     * @return int - the value or Integer.MIN_VALUE if not digits
+     */
+    private static int readValue(char[] buffer, int start, int end) {
+        int value = 0;
+        for(int i = start; i <= end; i++) {
+            int digit = buffer[i] - '0';
+            if(digit < 0 || digit > 9) {
+                return Integer.MIN_VALUE;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Writes the separator of the component at the position
+     * @return int - the new length
+     */
+    private int writeSeparator(char[] buffer, int component, int position) {
+        char[] separator = separators[component];
+        for(int i = 0; i < separator.length && position < length; i++) {
+            buffer[position++] = separator[i];
+        }
+        return position;
+    }
+}
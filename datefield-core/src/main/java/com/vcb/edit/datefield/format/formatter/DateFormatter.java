@@ -2,9 +2,9 @@ package com.vcb.edit.datefield.format.formatter;
 
 import java.text.DateFormat;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
+import java.util.TimeZone;
 
 /**
  * Methods to parse or format the date.
@@ -13,6 +13,7 @@ import java.util.Locale;
  * 01 Jul 2018 without error.
  * Default is lenient true.
  * To change the lenient value use constructor DateFormatter(boolean lenient)
+ * The compiled formatters are reused from the {@link FormatterCache} of the calling thread.
  */
 public class DateFormatter {
     /**
@@ -32,15 +33,21 @@ public class DateFormatter {
     public DateFormatter(boolean lenient) {
         this.lenient = lenient;
     }
+    /**
+     * Returns whether the date parsing is lenient.
+     * @return boolean - lenient or not.
+     */
+    public boolean isLenient() {
+        return lenient;
+    }
     /**
      * Returns a date format object with the format specified.
+     * The formatter is taken from the cache of the calling thread and compiled only on a cache miss.
      * @param format the format on which the formatter need to create.
      * @return DateFormat - the date format.
      */
     private DateFormat getDateFormatter(String format) {
-        DateFormat formatter = new SimpleDateFormat(format, Locale.US);
-        formatter.setLenient(lenient);
-        return formatter;
+        return FormatterCache.get().obtain(format, lenient, Locale.US, TimeZone.getDefault());
     }
     /**
      * Parse a string representation of date to the date object with the specified format.
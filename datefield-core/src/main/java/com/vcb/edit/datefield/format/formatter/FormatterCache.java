@@ -0,0 +1,206 @@
+package com.vcb.edit.datefield.format.formatter;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Bounded cache of compiled date formatters keyed by pattern, lenient, locale and time zone.
+ * Compiling a SimpleDateFormat pattern is the most expensive part of a parse/ format call,
+ * so the formatters are kept and reused instead of being created on every call.
+ * SimpleDateFormat is not thread safe, so the cache is confined to the calling thread.
+ * Use {@link #get()} to obtain the cache of the current thread.
+ * The least recently used formatter is evicted once the capacity is reached.
+ */
+public final class FormatterCache {
+    /**
+     * Default number of formatters kept per thread
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+    /**
+     * The cache of each thread
+     */
+    private static final ThreadLocal<FormatterCache> CACHE = new ThreadLocal<FormatterCache>() {
+        @Override
+        protected FormatterCache initialValue() {
+            return new FormatterCache(DEFAULT_CAPACITY);
+        }
+    };
+    /**
+     * The maximum number of formatters kept
+     */
+    private final int capacity;
+    /**
+     * Map that holds the formatters in access order
+     */
+    private final Map<Key, DateFormat> formatters;
+    /**
+     * Key reused for lookups, so that a cache hit does not allocate
+     */
+    private final Key lookupKey = new Key();
+    /**
+     * Number of lookups served from the cache
+     */
+    private long hitCount;
+    /**
+     * Number of lookups that needed a new formatter
+     */
+    private long missCount;
+    /**
+     * Number of formatters evicted due to capacity
+     */
+    private long evictionCount;
+
+    /**
+     * Constructor
+     * @param capacity the maximum number of formatters kept
+     */
+    private FormatterCache(int capacity) {
+        this.capacity = capacity;
+        this.formatters = new LinkedHashMap<Key, DateFormat>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, DateFormat> eldest) {
+                if(size() > FormatterCache.this.capacity) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the formatter cache of the current thread
+     * @return FormatterCache - the cache confined to the current thread
+     */
+    public static FormatterCache get() {
+        return CACHE.get();
+    }
+
+    /**
+     * Returns a compiled formatter for the given properties, creating it on a cache miss.
+     * The returned formatter must not be shared with other threads.
+     * @param pattern the pattern of the formatter
+     * @param lenient whether the parsing is lenient
+     * @param locale the locale of the formatter
+     * @param timeZone the time zone of the formatter
+     * @return DateFormat - the compiled formatter
+     */
+    public DateFormat obtain(String pattern, boolean lenient, Locale locale, TimeZone timeZone) {
+        String timeZoneId = timeZone.getID();
+        lookupKey.set(pattern, lenient, locale, timeZoneId);
+        DateFormat formatter = formatters.get(lookupKey);
+        if(null != formatter) {
+            hitCount++;
+            return formatter;
+        }
+        missCount++;
+        formatter = new SimpleDateFormat(pattern, locale);
+        formatter.setLenient(lenient);
+        formatter.setTimeZone(timeZone);
+        formatters.put(new Key().set(pattern, lenient, locale, timeZoneId), formatter);
+        return formatter;
+    }
+
+    /**
+     * Returns the maximum number of formatters kept
+     * @return int - the capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of formatters currently kept
+     * @return int - the size
+     */
+    public int size() {
+        return formatters.size();
+    }
+
+    /**
+     * Returns the number of lookups served from the cache
+     * @return long - the hit count
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that needed a new formatter
+     * @return long - the miss count
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of formatters evicted due to capacity
+     * @return long - the eviction count
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Removes all formatters and resets the counters
+     */
+    public void clear() {
+        formatters.clear();
+        hitCount = 0;
+        missCount = 0;
+        evictionCount = 0;
+    }
+
+    /**
+     * Key of a cached formatter
+     */
+    private static final class Key {
+        private String pattern;
+        private boolean lenient;
+        private Locale locale;
+        private String timeZoneId;
+        private int hash;
+
+        /**
+         * Sets the properties of the key
+         * @return Key - this key
+         */
+        Key set(String pattern, boolean lenient, Locale locale, String timeZoneId) {
+            this.pattern = pattern;
+            this.lenient = lenient;
+            this.locale = locale;
+            this.timeZoneId = timeZoneId;
+            int result = pattern.hashCode();
+            result = 31 * result + (lenient ? 1 : 0);
+            result = 31 * result + locale.hashCode();
+            result = 31 * result + timeZoneId.hashCode();
+            this.hash = result;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) {
+                return true;
+            }
+            if(!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hash == key.hash
+                    && lenient == key.lenient
+                    && pattern.equals(key.pattern)
+                    && locale.equals(key.locale)
+                    && timeZoneId.equals(key.timeZoneId);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.vcb.edit.datefield.format.month;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * Matches the typed characters of a month name, one character at a time.
+ * The month names of a length are kept case folded in a sorted char table, so whether the typed
+ * characters can still become a month name is found by a binary search on the table, without
+ * creating a substring. An impossible prefix is known at its first wrong character.
+ * The matching is case insensitive. {@link #copyName(int, char[], int)} gives the name in the
+ * case of the month names, to replace the typed characters with.
+ * The matcher is immutable and can be shared across threads.
+ */
+public final class MonthNameMatcher {
+    /** The value returned when there is no month name for the characters. */
+    public static final int NO_MONTH = -1;
+
+    /** The length of the month names. */
+    private final int length;
+    /** The case folded month names, sorted. */
+    private final char[][] foldedNames;
+    /** The month names in the order of foldedNames. */
+    private final char[][] names;
+    /** The values of the month names in the order of foldedNames. */
+    private final int[] values;
+
+    /**
+     * Constructor
+     * @param length the length of the month names
+     * @param foldedNames the case folded month names, sorted
+     * @param names the month names
+     * @param values the values of the month names
+     */
+    private MonthNameMatcher(int length, char[][] foldedNames, char[][] names, int[] values) {
+        this.length = length;
+        this.foldedNames = foldedNames;
+        this.names = names;
+        this.values = values;
+    }
+
+    /**
+     * Creates a matcher for the month names of the given length in the map
+     * @param monthMap the month names and their values from 1 to 12
+     * @param length the length of the month names. Other names are not matched.
+     * @return MonthNameMatcher - the matcher
+     */
+    public static MonthNameMatcher of(Map<String, Integer> monthMap, int length) {
+        final char[][] folded = new char[monthMap.size()][];
+        char[][] original = new char[monthMap.size()][];
+        int[] monthValues = new int[monthMap.size()];
+        Integer[] order = new Integer[monthMap.size()];
+        int size = 0;
+        for(Map.Entry<String, Integer> entry : monthMap.entrySet()) {
+            if(null == entry.getKey() || null == entry.getValue() || length != entry.getKey().length()) {
+                continue;
+            }
+            original[size] = entry.getKey().toCharArray();
+            folded[size] = fold(entry.getKey());
+            monthValues[size] = entry.getValue();
+            order[size] = size;
+            size++;
+        }
+        Arrays.sort(order, 0, size, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer first, Integer second) {
+                return compareNames(folded[first], folded[second]);
+            }
+        });
+        char[][] sortedFolded = new char[size][];
+        char[][] sortedNames = new char[size][];
+        int[] sortedValues = new int[size];
+        for(int i = 0; i < size; i++) {
+            sortedFolded[i] = folded[order[i]];
+            sortedNames[i] = original[order[i]];
+            sortedValues[i] = monthValues[order[i]];
+        }
+        return new MonthNameMatcher(length, sortedFolded, sortedNames, sortedValues);
+    }
+
+    /**
+     * Returns the length of the month names
+     * @return int - the length
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Checks whether the characters can be the start of a month name
+     * @param text the text
+     * @param start the index of the first character of the month
+     * @param count the number of characters typed for the month
+     * @return boolean - a prefix of a month name or not
+     */
+    public boolean isPrefix(CharSequence text, int start, int count) {
+        return count <= length && find(text, null, start, count) >= 0;
+    }
+
+    /**
+     * Checks whether the characters can be the start of a month name
+     * @param buffer the buffer
+     * @param start the index of the first character of the month
+     * @param count the number of characters typed for the month
+     * @return boolean - a prefix of a month name or not
+     */
+    public boolean isPrefix(char[] buffer, int start, int count) {
+        return count <= length && find(null, buffer, start, count) >= 0;
+    }
+
+    /**
+     * Returns the value of the month name at the index
+     * @param text the text
+     * @param start the index of the first character of the month
+     * @return int - the month value from 1 to 12 or NO_MONTH
+     */
+    public int match(CharSequence text, int start) {
+        if(start + length > text.length()) {
+            return NO_MONTH;
+        }
+        int index = find(text, null, start, length);
+        return index < 0 ? NO_MONTH : values[index];
+    }
+
+    /**
+     * Returns the value of the month name at the index
+     * @param buffer the buffer
+     * @param start the index of the first character of the month
+     * @return int - the month value from 1 to 12 or NO_MONTH
+     */
+    public int match(char[] buffer, int start) {
+        if(start + length > buffer.length) {
+            return NO_MONTH;
+        }
+        int index = find(null, buffer, start, length);
+        return index < 0 ? NO_MONTH : values[index];
+    }
+
+    /**
+     * Copies the name of the month to the buffer
+     * @param month the month value from 1 to 12
+     * @param buffer the buffer
+     * @param start the index to copy to
+     * @return boolean - copied or not. False if the month has no name of the length.
+     */
+    public boolean copyName(int month, char[] buffer, int start) {
+        for(int i = 0; i < values.length; i++) {
+            if(month == values[i]) {
+                System.arraycopy(names[i], 0, buffer, start, length);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the name of the month
+     * @param month the month value from 1 to 12
+     * @return String - the name or null if the month has no name of the length
+     */
+    public String getName(int month) {
+        for(int i = 0; i < values.length; i++) {
+            if(month == values[i]) {
+                return new String(names[i]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the first month name that starts with the characters, with a binary search on the sorted names.
+     * The characters are read from the text if not null, or from the buffer.
+     * @return int - the index of the name or -1 if none
+     */
+    private int find(CharSequence text, char[] buffer, int start, int count) {
+        int low = 0;
+        int high = foldedNames.length;
+        while(low < high) {
+            int middle = (low + high) >>> 1;
+            if(comparePrefix(foldedNames[middle], text, buffer, start, count) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if(low < foldedNames.length && 0 == comparePrefix(foldedNames[low], text, buffer, start, count)) {
+            return low;
+        }
+        return -1;
+    }
+
+    /**
+     * Compares the first characters of a folded name with the typed characters
+     * @return int - negative, zero or positive as the name is before, same as or after the characters
+     */
+    private static int comparePrefix(char[] name, CharSequence text, char[] buffer, int start, int count) {
+        for(int i = 0; i < count; i++) {
+            char c = fold(null != text ? text.charAt(start + i) : buffer[start + i]);
+            if(name[i] != c) {
+                return name[i] - c;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Compares two folded names
+     */
+    private static int compareNames(char[] first, char[] second) {
+        for(int i = 0; i < first.length; i++) {
+            if(first[i] != second[i]) {
+                return first[i] - second[i];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the case folded characters of the name
+     */
+    private static char[] fold(String name) {
+        char[] folded = new char[name.length()];
+        for(int i = 0; i < folded.length; i++) {
+            folded[i] = fold(name.charAt(i));
+        }
+        return folded;
+    }
+
+    /**
+     * Returns the case folded character
+     */
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
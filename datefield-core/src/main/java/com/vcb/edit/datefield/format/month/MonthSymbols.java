@@ -0,0 +1,137 @@
+package com.vcb.edit.datefield.format.month;
+
+import java.text.DateFormatSymbols;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The short month names of a locale, with their month values and matchers.
+ * The symbols of a locale are loaded once, on first use, and shared by all the formats of the
+ * process. So creating more formats or fields with month names does not load the locale data again.
+ * The symbols are kept by locale, so a change of the default locale uses the symbols of the new one.
+ * The symbols are immutable and can be shared across threads.
+ */
+public final class MonthSymbols {
+    /** The symbols loaded, by locale. */
+    private static final ConcurrentHashMap<Locale, MonthSymbols> CACHE = new ConcurrentHashMap<>(4);
+
+    /** The locale of the symbols. */
+    private final Locale locale;
+    /** The short month names, January first. */
+    private final String[] shortMonths;
+    /** The values of the short month names from 1 to 12. */
+    private final Map<String, Integer> shortMonthMap;
+    /** The matchers of the short month names, by the length of the names. Created on first use. */
+    private volatile MonthNameMatcher[] shortMonthMatchers = new MonthNameMatcher[0];
+
+    /**
+     * Constructor
+     * @param locale the locale
+     */
+    private MonthSymbols(Locale locale) {
+        DateFormatSymbols symbols = new DateFormatSymbols(locale);
+        this.locale = locale;
+        this.shortMonths = getMonths(symbols.getShortMonths());
+        this.shortMonthMap = getMonthMap(shortMonths);
+    }
+
+    /**
+     * Returns the month symbols of the locale
+     * @param locale the locale
+     * @return MonthSymbols - the month symbols
+     */
+    public static MonthSymbols get(Locale locale) {
+        MonthSymbols symbols = CACHE.get(locale);
+        if(null == symbols) {
+            symbols = new MonthSymbols(locale);
+            MonthSymbols existing = CACHE.putIfAbsent(locale, symbols);
+            if(null != existing) {
+                symbols = existing;
+            }
+        }
+        return symbols;
+    }
+
+    /**
+     * Returns the month symbols of the default locale
+     * @return MonthSymbols - the month symbols
+     */
+    public static MonthSymbols getDefault() {
+        return get(Locale.getDefault());
+    }
+
+    /**
+     * Returns the locale of the symbols
+     * @return Locale - the locale
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns the short month names
+     * @return String[] - the short month names, January first
+     */
+    public String[] getShortMonths() {
+        return shortMonths.clone();
+    }
+
+    /**
+     * Returns the values of the short month names
+     * @return Map - the unmodifiable map of the short month names to the values from 1 to 12
+     */
+    public Map<String, Integer> getShortMonthMap() {
+        return shortMonthMap;
+    }
+
+    /**
+     * Returns the matcher of the short month names of the length
+     * @param length the length of the month names
+     * @return MonthNameMatcher - the matcher
+     */
+    public MonthNameMatcher getShortMonthMatcher(int length) {
+        MonthNameMatcher[] matchers = shortMonthMatchers;
+        if(length < matchers.length && null != matchers[length]) {
+            return matchers[length];
+        }
+        MonthNameMatcher matcher = MonthNameMatcher.of(shortMonthMap, length);
+        synchronized(this) {
+            matchers = shortMonthMatchers;
+            if(length < matchers.length && null != matchers[length]) {
+                return matchers[length];
+            }
+            MonthNameMatcher[] copy = new MonthNameMatcher[Math.max(matchers.length, length + 1)];
+            System.arraycopy(matchers, 0, copy, 0, matchers.length);
+            copy[length] = matcher;
+            shortMonthMatchers = copy;
+        }
+        return matcher;
+    }
+
+    /**
+     * Returns the twelve month names. Some locales have a thirteenth empty name, which is left out.
+     */
+    private static String[] getMonths(String[] months) {
+        String[] twelve = new String[12];
+        System.arraycopy(months, 0, twelve, 0, Math.min(months.length, twelve.length));
+        return twelve;
+    }
+
+    /**
+     * Returns the unmodifiable map of the month names to the values from 1 to 12
+     */
+    private static Map<String, Integer> getMonthMap(String[] months) {
+        Map<String, Integer> monthMap = new HashMap<>(16);
+        int index = 0;
+        for(String month : months) {
+            ++index;
+            if(null != month && !month.isEmpty() && !monthMap.containsKey(month)) {
+                monthMap.put(month, index);
+            }
+        }
+        return Collections.unmodifiableMap(monthMap);
+    }
+}
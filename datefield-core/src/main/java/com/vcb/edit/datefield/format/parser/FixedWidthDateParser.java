@@ -0,0 +1,277 @@
+package com.vcb.edit.datefield.format.parser;
+
+import com.vcb.edit.datefield.format.DateFormat;
+import com.vcb.edit.datefield.format.LazyDateFormat;
+import com.vcb.edit.datefield.format.calendar.EpochDays;
+import com.vcb.edit.datefield.format.calendar.TwoDigitYearPivot;
+import com.vcb.edit.datefield.format.month.MonthNameMatcher;
+import com.vcb.edit.datefield.format.types.component.contract.Component;
+import com.vcb.edit.datefield.format.types.variants.BaseMMMDD;
+
+import java.util.Calendar;
+import java.util.Map;
+
+/**
+ * Parser for the date formats where every component is a fixed number of digits. eg:- dd/MM/yyyy
+ * The month can also be a month name of the MMM formats. eg:- MMM dd, yyyy
+ * The digits are read straight from the text with the offsets of the components of the format,
+ * so no SimpleDateFormat, java.util.Date or exception is created to parse a value.
+ * The result is the epoch day of the date, or {@link #INVALID} if the text is not a valid date.
+ * {@link #format(int)} does the reverse, the text of an epoch day.
+ * Use {@link #of(DateFormat)} to get a parser. It returns null if the format is not supported.
+ * Dates are in the proleptic Gregorian calendar, so lenient values that roll before the
+ * Gregorian cutover of 1582 differ from SimpleDateFormat, which switches to the Julian calendar.
+ * The parser is immutable and can be shared across threads.
+ */
+public final class FixedWidthDateParser {
+    /**
+     * The value returned when the text is not a valid date
+     */
+    public static final int INVALID = Integer.MIN_VALUE;
+    /**
+     * The pattern of the format. Non pattern letters are the literals to match
+     */
+    private final String pattern;
+    /**
+     * Start and end index of the day
+     */
+    private final int dayStart, dayEnd;
+    /**
+     * Start and end index of the month
+     */
+    private final int monthStart, monthEnd;
+    /**
+     * Start and end index of the year
+     */
+    private final int yearStart, yearEnd;
+    /**
+     * The day, month and year components, to validate the values of a strict parsing
+     */
+    private final Component day, month, year;
+    /**
+     * The pivot of the two digit years or null if the year has four digits
+     */
+    private final TwoDigitYearPivot pivot;
+    /**
+     * The matcher of the month names or null if the month is digits
+     */
+    private final MonthNameMatcher monthNameMatcher;
+
+    /**
+     * Constructor
+     * @param pattern the pattern of the format
+     * @param day the day component
+     * @param month the month component
+     * @param year the year component
+     * @param monthNameMatcher the matcher of the month names or null if the month is digits
+     */
+    private FixedWidthDateParser(String pattern, Component day, Component month, Component year,
+                                 MonthNameMatcher monthNameMatcher) {
+        this.pattern = pattern;
+        this.day = day;
+        this.month = month;
+        this.year = year;
+        this.dayStart = day.index().getStart();
+        this.dayEnd = day.index().getEnd();
+        this.monthStart = month.index().getStart();
+        this.monthEnd = month.index().getEnd();
+        this.yearStart = year.index().getStart();
+        this.yearEnd = year.index().getEnd();
+        this.pivot = 2 == year.length() ? TwoDigitYearPivot.now() : null;
+        this.monthNameMatcher = monthNameMatcher;
+    }
+
+    /**
+     * Returns a parser for the date format or null if the format is not a fixed width format.
+     * The month names of an MMM format are the ones its input is matched with.
+     * @param format the date format
+     * @return FixedWidthDateParser - the parser or null if not supported
+     */
+    public static FixedWidthDateParser of(DateFormat format) {
+        if(null == format || null == format.format()) {
+            return null;
+        }
+        String pattern = format.format();
+        Map<Integer, Component> components = format.components();
+        if(null == components || 3 != components.size()) {
+            return null;
+        }
+        Component day = components.get(Calendar.DATE);
+        Component month = components.get(Calendar.MONTH);
+        Component year = components.get(Calendar.YEAR);
+        MonthNameMatcher monthNameMatcher = null;
+        DateFormat actualFormat = LazyDateFormat.unwrap(format);
+        if(actualFormat instanceof BaseMMMDD && isDigits(pattern, month, 'M', 3)) {
+            monthNameMatcher = ((BaseMMMDD) actualFormat).getMonthNameMatcher();
+        }
+        if(!isDigits(pattern, day, 'd', 2)
+                || !(null != monthNameMatcher || isDigits(pattern, month, 'M', 2))
+                || !(isDigits(pattern, year, 'y', 2) || isDigits(pattern, year, 'y', 4))) {
+            return null;
+        }
+        /** Every other position should be a literal. */
+        for(int i = 0; i < pattern.length(); i++) {
+            if(isInside(i, day) || isInside(i, month) || isInside(i, year)) {
+                continue;
+            }
+            if(Character.isLetter(pattern.charAt(i)) || '\'' == pattern.charAt(i)) {
+                return null;
+            }
+        }
+        return new FixedWidthDateParser(pattern, day, month, year, monthNameMatcher);
+    }
+
+    /**
+     * Checks whether the component is the given pattern letter repeated for the given length
+     * @param pattern the pattern of the format
+     * @param component the component
+     * @param letter the pattern letter
+     * @param length the length of the component
+     * @return boolean - the component is supported or not
+     */
+    private static boolean isDigits(String pattern, Component component, char letter, int length) {
+        if(null == component || null == component.index() || length != component.length()
+                || component.index().getStart() < 0 || component.index().getEnd() >= pattern.length()) {
+            return false;
+        }
+        for(int i = component.index().getStart(); i <= component.index().getEnd(); i++) {
+            if(letter != pattern.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the index is inside the component
+     * @param index the index in the pattern
+     * @param component the component
+     * @return boolean - inside or not
+     */
+    private static boolean isInside(int index, Component component) {
+        return index >= component.index().getStart() && index <= component.index().getEnd();
+    }
+
+    /**
+     * Returns the length of the text this parser accepts
+     * @return int - the length
+     */
+    public int length() {
+        return pattern.length();
+    }
+
+    /**
+     * Parses the text to the epoch day.
+     * With lenient parsing, out of range months and days roll over to the next month or year,
+     * as in a lenient SimpleDateFormat. With strict parsing, the values of the components should be
+     * valid for the components, see {@link Component#isValid(int)}.
+     * @param text the text to parse
+     * @param lenient whether the parsing is lenient
+     * @return int - the epoch day or {@link #INVALID}
+     */
+    public int parse(CharSequence text, boolean lenient) {
+        if(null == text || text.length() != pattern.length()) {
+            return INVALID;
+        }
+        for(int i = 0; i < pattern.length(); i++) {
+            if(i >= dayStart && i <= dayEnd || i >= monthStart && i <= monthEnd || i >= yearStart && i <= yearEnd) {
+                continue;
+            }
+            if(text.charAt(i) != pattern.charAt(i)) {
+                return INVALID;
+            }
+        }
+        int day = readDigits(text, dayStart, dayEnd);
+        int month = null == monthNameMatcher ? readDigits(text, monthStart, monthEnd)
+                : monthNameMatcher.match(text, monthStart);
+        int year = readDigits(text, yearStart, yearEnd);
+        if(day < 0 || month < 0 || year < 0) {
+            return INVALID;
+        }
+        if(!lenient && !(this.day.isValid(day) && this.month.isValid(month) && this.year.isValid(year))) {
+            /** The values should be valid for the validators of the components, eg:- a year from 1860. */
+            return INVALID;
+        }
+        if(null != pivot) {
+            /** The two digit year is resolved to the century that starts 80 years before now, as in SimpleDateFormat. */
+            year = pivot.toFullYear(year, month, day);
+        }
+        return toEpochDay(year, month, day, lenient);
+    }
+
+    /**
+     * Returns the text of the epoch day in the format.
+     * A two digit year is written as the last two digits of the year, as in SimpleDateFormat.
+     * @param epochDay the epoch day
+     * @return String - the text or null if the year cannot be written in the format, ie:- not from 1 to 9999
+     */
+    public String format(int epochDay) {
+        long yearMonthDay = EpochDays.toYearMonthDay(epochDay);
+        int year = (int) (yearMonthDay >> 9);
+        int month = (int) (yearMonthDay >> 5) & 0xF;
+        int day = (int) yearMonthDay & 0x1F;
+        if(year < 1 || year > 9999) {
+            return null;
+        }
+        char[] buffer = pattern.toCharArray();
+        writeDigits(buffer, dayStart, dayEnd, day);
+        if(null == monthNameMatcher) {
+            writeDigits(buffer, monthStart, monthEnd, month);
+        } else if(!monthNameMatcher.copyName(month, buffer, monthStart)) {
+            return null;
+        }
+        writeDigits(buffer, yearStart, yearEnd, null == pivot ? year : year % 100);
+        return new String(buffer);
+    }
+
+    /**
+     * Returns the epoch day of the date
+     * @param year the year
+     * @param month the month from 1 to 12
+     * @param day the day of the month
+     * @param lenient whether the out of range values are allowed
+     * @return int - the epoch day or {@link #INVALID}
+     */
+    private static int toEpochDay(int year, int month, int day, boolean lenient) {
+        if(lenient) {
+            return EpochDays.ofLenient(year, month, day);
+        }
+        if(!EpochDays.isValid(year, month, day)) {
+            return INVALID;
+        }
+        return EpochDays.of(year, month, day);
+    }
+
+    /**
+     * Reads the digits from start to end index inclusive
+     * @param text the text
+     * @param start the start index
+     * @param end the end index
+     * @return int - the value or -1 if any of the characters is not a digit
+     */
+    private static int readDigits(CharSequence text, int start, int end) {
+        int value = 0;
+        for(int i = start; i <= end; i++) {
+            int digit = text.charAt(i) - '0';
+            if(digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Writes the value as digits from start to end index inclusive, padded with 0
+     * @param buffer the buffer
+     * @param start the start index
+     * @param end the end index
+     * @param value the value
+     */
+    private static void writeDigits(char[] buffer, int start, int end, int value) {
+        for(int i = end; i >= start; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
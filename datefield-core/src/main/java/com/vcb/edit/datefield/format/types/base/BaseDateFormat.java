@@ -1,10 +1,12 @@
 package com.vcb.edit.datefield.format.types.base;
 
-import android.text.InputType;
-
+import com.vcb.edit.datefield.constants.InputTypes;
+import com.vcb.edit.datefield.exceptions.ExceptionCreator;
 import com.vcb.edit.datefield.format.DateFormat;
+import com.vcb.edit.datefield.format.types.component.ComponentTable;
 import com.vcb.edit.datefield.format.types.component.contract.Component;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -29,8 +31,16 @@ public abstract class BaseDateFormat implements DateFormat {
      * separator of a component and adding the text.
      * Eg:- Current text is 12/31/2011. Delete till 12 or 12/31 including the separator.
      * Now add the text to the end should add a separator before adding the current input. */
-    protected Map<Integer, Component> components = new LinkedHashMap<>();
+    private final Map<Integer, Component> components = new LinkedHashMap<>();
 //    protected Map<Integer, Component> components = new HashMap<>();
+    /**
+     * The unmodifiable view of the components returned by components()
+     */
+    private Map<Integer, Component> componentsView;
+    /**
+     * The table of the components returned by componentTable(). Created on first use.
+     */
+    private ComponentTable componentTable;
 
     /**
      * Constructor
@@ -40,6 +50,21 @@ public abstract class BaseDateFormat implements DateFormat {
 //        numberOfComponents = format().split(separator()).length;
     }
 
+    /**
+     * Adds a component of the date format, by its field. Called by the constructor of the format,
+     * in the order the components occur, as the components cannot change once the format is used.
+     *
+     * @param component the component
+     * @throws com.vcb.edit.datefield.exceptions.DateFieldException if the components are already in use
+     */
+    protected final void addComponent(Component component) {
+        if(null != componentsView || null != componentTable) {
+            throw ExceptionCreator.getGeneralException("The components of the date format ", format,
+                    " cannot be changed after it is used");
+        }
+        components.put(component.field(), component);
+    }
+
     /**
      * Returns the date format in use
      *
@@ -77,11 +102,35 @@ public abstract class BaseDateFormat implements DateFormat {
      * java.util.Calendar.MONTH,
      * java.util.Calendar.YEAR etc.
      *
+     * The map cannot be changed, as the format can be shared by the fields.
+     *
      * @return an instance of Map of type Map<Integer, ? super Index>
      */
     @Override
     public Map<Integer, Component> components() {
-        return components;
+        Map<Integer, Component> view = componentsView;
+        if(null == view) {
+            view = Collections.unmodifiableMap(components);
+            componentsView = view;
+        }
+        return view;
+    }
+
+    /**
+     * Returns the components of the date format as a table indexed by the field,
+     * in the order of components(). The table is created on first use, after the
+     * components are added by the constructor.
+     *
+     * @return ComponentTable - the component table
+     */
+    @Override
+    public ComponentTable componentTable() {
+        ComponentTable table = componentTable;
+        if(null == table) {
+            table = new ComponentTable(components.values());
+            componentTable = table;
+        }
+        return table;
     }
 
     /**
@@ -91,7 +140,26 @@ public abstract class BaseDateFormat implements DateFormat {
      */
     @Override
     public int inputType() {
-        return InputType.TYPE_CLASS_NUMBER;
+        return InputTypes.TYPE_CLASS_NUMBER;
+    }
+
+    /**
+     * Formats the input value with all the components of the format, in the order of the components.
+     * Returns the final text after all the changes, so the text can be changed once for a keystroke.
+     * @param value the input value
+     * @return the formatted input value, or the value itself if nothing is changed
+     */
+    @Override
+    public String formatInput(String value) {
+        String text = value;
+        ComponentTable table = componentTable();
+        for(int i = 0; i < table.size(); i++) {
+            String formatted = formatInput(table.component(i), text);
+            if(null != formatted) {
+                text = formatted;
+            }
+        }
+        return text;
     }
 
     /**
@@ -110,6 +178,8 @@ public abstract class BaseDateFormat implements DateFormat {
      */
     @Override
     public String formatInput(Component component, String value) {
+        int start = component.index().getStart();
+        int end = component.index().getEnd();
         /** Added to handle the scenarios where a user clears the text by pressing back button till
          *  the separator and trying to add again.
          *  Eg:- Current text is 12/31/2011. Delete till 12 or 12/31 including the separator.
@@ -124,10 +194,10 @@ public abstract class BaseDateFormat implements DateFormat {
 //        }
         /** Same for the above code but to support for separators that have more than
          * one characters like in May 12, 1999 where date has comma and space. */
-        if((value.length() > component.index().getEnd() + 1 && value.length() <= component.index().getEnd() + 1 + component.separator().length())
-                && !component.separator().equals(value.substring(component.index().getEnd()))) {
-            value = new StringBuilder(value.substring(0, component.index().getEnd() + 1))
-                    .insert(component.index().getEnd() + 1, component.separator())
+        if((value.length() > end + 1 && value.length() <= end + 1 + component.separator().length())
+                && !component.separator().equals(value.substring(end))) {
+            value = new StringBuilder(value.substring(0, end + 1))
+                    .insert(end + 1, component.separator())
                     .append(value.substring(value.length() - 1))
                     .toString();
             return value;
@@ -135,21 +205,20 @@ public abstract class BaseDateFormat implements DateFormat {
 
         /** For adding 0 to the beginning if current added character is greater
          * than the max digit possible for the component.eg for date, 4 -> 04 */
-        if(value.length() == component.index().getStart() + 1
-                && parseInt(value.substring(component.index().getStart(), component.index().getStart() + 1)) > component.maxStartDigit()) {
-            value = value.substring(0, component.index().getStart()) + "0" + value.charAt(component.index().getStart()) + component.separator();
+        if(value.length() == start + 1
+                && parseInt(value.substring(start, start + 1)) > component.maxStartDigit()) {
+            value = value.substring(0, start) + "0" + value.charAt(start) + component.separator();
             return value;
         }
 
-        if(value.length() == component.index().getEnd() + 1) {
+        if(value.length() == end + 1) {
             /** For handling inputs like
              * 1. 00 :- If enters, then removes the end character and
              * 2. 33 -> date and 19 -> month :- max than the component max.
              *          If enters, then removes the end character. */
-            int intValue = parseInt(value.substring(component.index().getStart(), component.index().getEnd() + 1));
-            if(intValue < component.minValue()
-                    || intValue > component.maxValue()) {
-                value = value.substring(0, component.index().getStart() + 1);
+            int intValue = parseInt(value.substring(start, end + 1));
+            if(!component.isValid(intValue)) {
+                value = value.substring(0, start + 1);
             } else {
                 /** For adding separator after each component end. */
                 value += component.separator();
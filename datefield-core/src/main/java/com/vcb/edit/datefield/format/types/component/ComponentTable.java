@@ -0,0 +1,140 @@
+package com.vcb.edit.datefield.format.types.component;
+
+import com.vcb.edit.datefield.format.types.component.contract.Component;
+
+import java.util.Calendar;
+import java.util.Collection;
+
+/**
+ * Table of the components of a date format, in the order of the components of the format.
+ * The components are kept in an array, with the field, start and end index of each component
+ * inline as ints, and the position of each component is indexed by its Calendar field.
+ * So a component is found without boxing the field or a hash lookup, and the components
+ * are walked with an indexed loop.
+ * The table is immutable and can be shared across threads.
+ */
+public final class ComponentTable {
+    /** The value returned for a field that is not a component of the format. */
+    public static final int NO_COMPONENT = -1;
+
+    /** The components in order. */
+    private final Component[] components;
+    /** The field of each component. */
+    private final int[] fields;
+    /** The start index of each component. */
+    private final int[] starts;
+    /** The end index of each component, inclusive. */
+    private final int[] ends;
+    /** The position of the component of each Calendar field or NO_COMPONENT. */
+    private final int[] positions;
+
+    /**
+     * Constructor
+     * @param components the components in order
+     */
+    public ComponentTable(Collection<Component> components) {
+        int size = components.size();
+        this.components = new Component[size];
+        this.fields = new int[size];
+        this.starts = new int[size];
+        this.ends = new int[size];
+        this.positions = new int[Calendar.FIELD_COUNT];
+        for(int i = 0; i < positions.length; i++) {
+            positions[i] = NO_COMPONENT;
+        }
+        int position = 0;
+        for(Component component : components) {
+            this.components[position] = component;
+            fields[position] = component.field();
+            starts[position] = component.index().getStart();
+            ends[position] = component.index().getEnd();
+            if(component.field() >= 0 && component.field() < positions.length) {
+                positions[component.field()] = position;
+            }
+            position++;
+        }
+    }
+
+    /**
+     * Returns the number of components
+     * @return int - the number of components
+     */
+    public int size() {
+        return components.length;
+    }
+
+    /**
+     * Returns the component at the position
+     * @param position the position of the component
+     * @return Component - the component
+     */
+    public Component component(int position) {
+        return components[position];
+    }
+
+    /**
+     * Returns the field of the component at the position
+     * @param position the position of the component
+     * @return int - the field. eg:- Calendar.DATE
+     */
+    public int field(int position) {
+        return fields[position];
+    }
+
+    /**
+     * Returns the start index of the component at the position
+     * @param position the position of the component
+     * @return int - the start index
+     */
+    public int start(int position) {
+        return starts[position];
+    }
+
+    /**
+     * Returns the end index of the component at the position
+     * @param position the position of the component
+     * @return int - the end index, inclusive
+     */
+    public int end(int position) {
+        return ends[position];
+    }
+
+    /**
+     * Returns the position of the component of the field
+     * @param field the field of type Calendar.DATE/ Calendar.MONTH/ Calendar.YEAR
+     * @return int - the position or NO_COMPONENT if the field is not a component of the format
+     */
+    public int positionOf(int field) {
+        return field >= 0 && field < positions.length ? positions[field] : NO_COMPONENT;
+    }
+
+    /**
+     * Returns the component of the field
+     * @param field the field of type Calendar.DATE/ Calendar.MONTH/ Calendar.YEAR
+     * @return Component - the component or null if the field is not a component of the format
+     */
+    public Component get(int field) {
+        int position = positionOf(field);
+        return NO_COMPONENT == position ? null : components[position];
+    }
+
+    /**
+     * Returns the start index of the component of the field
+     * @param field the field of type Calendar.DATE/ Calendar.MONTH/ Calendar.YEAR
+     * @return int - the start index
+     * @throws ArrayIndexOutOfBoundsException if the field is not a component of the format
+     */
+    public int startOf(int field) {
+        return starts[positionOf(field)];
+    }
+
+    /**
+     * Returns the end index of the component of the field
+     * @param field the field of type Calendar.DATE/ Calendar.MONTH/ Calendar.YEAR
+     * @return int - the end index, inclusive
+     * @throws ArrayIndexOutOfBoundsException if the field is not a component of the format
+     */
+    public int endOf(int field) {
+        return ends[positionOf(field)];
+    }
+}
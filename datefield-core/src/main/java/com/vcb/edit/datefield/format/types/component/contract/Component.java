@@ -39,6 +39,13 @@ public interface Component {
      * @return int - the maximum possible value of the first digit of the component
      */
     int maxStartDigit();
+    /**
+     * Checks whether the value is valid for the component.
+     * The value should be from the minimum to the maximum value and valid for the validator.
+     * @param value the value of the component
+     * @return boolean - valid or not
+     */
+    boolean isValid(int value);
     /**
      * Returns the separator.
      * It will return "/" for dd/MM/yy and "-" for dd-MM-yyyy
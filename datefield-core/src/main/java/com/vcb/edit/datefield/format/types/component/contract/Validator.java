@@ -0,0 +1,16 @@
+package com.vcb.edit.datefield.format.types.component.contract;
+
+/**
+ * Contract for validating the components.
+ * A component is validated from its value already read, so no substring is created to validate
+ * a component while typing.
+ * A validator can only narrow the minimum and maximum value of its component.
+ */
+public interface Validator {
+    /**
+     * Validation contract
+     * @param value the value of the component
+     * @return the value is valid or not
+     */
+    boolean isValid(int value);
+}
@@ -109,6 +109,18 @@ public class BaseComponent implements Component {
         return 0;
     }
 
+    /**
+     * Checks whether the value is valid for the component.
+     * The value should be from the minimum to the maximum value and valid for the validator.
+     *
+     * @param value the value of the component
+     * @return boolean - valid or not
+     */
+    @Override
+    public boolean isValid(int value) {
+        return value >= minValue() && value <= maxValue() && (null == validator || validator.isValid(value));
+    }
+
     /**
      * Returns the separator.
      * It will return "/" for dd/MM/yy and "-" for dd-MM-yyyy
@@ -0,0 +1,55 @@
+package com.vcb.edit.datefield.format.types.component.instance;
+
+import com.vcb.edit.datefield.format.types.component.contract.Validator;
+
+/**
+ * A class with validation of the value of a component against a minimum and maximum value.
+ * Extend it and override {@link #isValid(int)} for custom rules of a component.
+ */
+public class BoundedValidator implements Validator {
+    /**
+     * The minimum valid value
+     */
+    private final int minValue;
+    /**
+     * The maximum valid value
+     */
+    private final int maxValue;
+
+    /**
+     * Constructor
+     * @param minValue the minimum valid value
+     * @param maxValue the maximum valid value
+     */
+    public BoundedValidator(int minValue, int maxValue) {
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+    }
+
+    /**
+     * Returns the minimum valid value
+     * @return int - the minimum valid value
+     */
+    public int getMinValue() {
+        return minValue;
+    }
+
+    /**
+     * Returns the maximum valid value
+     * @return int - the maximum valid value
+     */
+    public int getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Validation contract
+     *
+     * @param value the value of the component
+     * @return the value is from the minimum to the maximum value or not
+     */
+    @Override
+    public boolean isValid(int value) {
+        return value >= minValue && value <= maxValue;
+    }
+}
@@ -0,0 +1,14 @@
+package com.vcb.edit.datefield.format.types.component.instance;
+
+/**
+ * A class with validation for date component.
+ * The day of the month should be from 1 to 31. The days of the month are checked with the full date.
+ */
+public class DateValidator extends BoundedValidator {
+    /**
+     * Constructor
+     */
+    public DateValidator() {
+        super(1, 31);
+    }
+}
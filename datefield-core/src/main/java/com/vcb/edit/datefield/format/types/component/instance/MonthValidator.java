@@ -0,0 +1,14 @@
+package com.vcb.edit.datefield.format.types.component.instance;
+
+/**
+ * A class with validation for month component.
+ * The month should be from 1 to 12.
+ */
+public class MonthValidator extends BoundedValidator {
+    /**
+     * Constructor
+     */
+    public MonthValidator() {
+        super(1, 12);
+    }
+}
@@ -22,7 +22,7 @@ public class YearComponentYYYY extends BaseComponent {
      */
     @Override
     public int minValue() {
-        return 1860;
+        return YearValidator.MIN_YEAR;
 //        return Integer.MIN_VALUE;
     }
 
@@ -0,0 +1,30 @@
+package com.vcb.edit.datefield.format.types.component.instance;
+
+/**
+ * A class with validation for year component.
+ * The validator of {@link #YearValidator()} accepts any year. Use {@link #YearValidator(int, int)}
+ * to limit the years, eg:- from {@link #MIN_YEAR} for a four digit year of the built-in formats,
+ * or 0 to 99 for a two digit year.
+ */
+public class YearValidator extends BoundedValidator {
+    /**
+     * The minimum four digit year
+     */
+    public static final int MIN_YEAR = 1860;
+
+    /**
+     * Constructor. Accepts any year.
+     */
+    public YearValidator() {
+        this(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructor
+     * @param minValue the minimum valid year
+     * @param maxValue the maximum valid year
+     */
+    public YearValidator(int minValue, int maxValue) {
+        super(minValue, maxValue);
+    }
+}
@@ -1,5 +1,6 @@
 package com.vcb.edit.datefield.format.types.variants;
 
+import com.vcb.edit.datefield.format.calendar.EpochDays;
 import com.vcb.edit.datefield.format.types.base.BaseDateFormat;
 import com.vcb.edit.datefield.format.types.component.contract.Component;
 
@@ -32,22 +33,26 @@ public abstract class BaseDDMM extends BaseDateFormat {
      */
     @Override
     public String formatInput(Component component, String value) {
-        /** For handling input like 29 or above for date and adding month as 2 or 02. */
+        int start = component.index().getStart();
+        int end = component.index().getEnd();
+        /** For handling input like 30 or above for date and adding month as 2 or 02. */
         try {
-            /** Check if single digit typed for month is 2 and date is greater than 29. */
+            /** Check if single digit typed for month is 2 and date is more than the days of February. */
             if(Calendar.MONTH == component.field()) {
-                if(value.length() == component.index().getStart() + 1) {
-                    if(2 == parseInt(value.substring(component.index().getStart(), component.index().getStart() + 1))
-                            && parseInt(value.substring(components().get(Calendar.DATE).index().getStart(), components().get(Calendar.DATE).index().getEnd() + 1)) > 29) {
-                        value = value.substring(0, component.index().getStart());
+                if(value.length() == start + 1) {
+                    if(EpochDays.FEBRUARY == parseInt(value.substring(start, start + 1))
+                            && parseInt(value.substring(componentTable().startOf(Calendar.DATE), componentTable().endOf(Calendar.DATE) + 1))
+                                    > EpochDays.maxLengthOfMonth(EpochDays.FEBRUARY)) {
+                        value = value.substring(0, start);
                         return value;
                     }
                 }
-                /** Check if the two digits typed for month is 2 and date is greater than 29. */
-                if(value.length() == component.index().getEnd() + 1) {
-                    if(2 == parseInt(value.substring(component.index().getStart(), component.index().getEnd() + 1))
-                            && parseInt(value.substring(components().get(Calendar.DATE).index().getStart(), components().get(Calendar.DATE).index().getEnd() + 1)) > 29) {
-                        value = value.substring(0, component.index().getStart() + 1);
+                /** Check if the two digits typed for month is 2 and date is more than the days of February. */
+                if(value.length() == end + 1) {
+                    if(EpochDays.FEBRUARY == parseInt(value.substring(start, end + 1))
+                            && parseInt(value.substring(componentTable().startOf(Calendar.DATE), componentTable().endOf(Calendar.DATE) + 1))
+                                    > EpochDays.maxLengthOfMonth(EpochDays.FEBRUARY)) {
+                        value = value.substring(0, start + 1);
                         return value;
                     }
                 }
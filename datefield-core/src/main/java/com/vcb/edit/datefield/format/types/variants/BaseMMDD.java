@@ -1,5 +1,6 @@
 package com.vcb.edit.datefield.format.types.variants;
 
+import com.vcb.edit.datefield.format.calendar.EpochDays;
 import com.vcb.edit.datefield.format.types.base.BaseDateFormat;
 import com.vcb.edit.datefield.format.types.component.contract.Component;
 
@@ -32,22 +33,24 @@ public abstract class BaseMMDD extends BaseDateFormat {
      */
     @Override
     public String formatInput(Component component, String value) {
+        int start = component.index().getStart();
+        int end = component.index().getEnd();
         /** For handling input like 29 or above for date and adding month as 2/02. */
         try {
             if(Calendar.DATE == component.field()) {
-                if(value.length() == component.index().getStart() + 1) {
+                if(value.length() == start + 1) {
                     /** Check if the single letter typed is greater than 2. Because it should limit from 3 to enter. */
-                    if(parseInt(value.substring(component.index().getStart(), component.index().getStart() + 1)) > 2
-                            && parseInt(value.substring(components().get(Calendar.MONTH).index().getStart(), components().get(Calendar.MONTH).index().getEnd() + 1)) == 2) {
-                        value = value.substring(0, component.index().getStart());
+                    if(parseInt(value.substring(start, start + 1)) > EpochDays.MAX_FEBRUARY_DAY_TENS
+                            && parseInt(value.substring(componentTable().startOf(Calendar.MONTH), componentTable().endOf(Calendar.MONTH) + 1)) == EpochDays.FEBRUARY) {
+                        value = value.substring(0, start);
                         return value;
                     }
                 }
                 /** Check if the two digits typed for date is greater than 29 and month is February. */
-                if(value.length() == component.index().getEnd() + 1) {
-                    if(parseInt(value.substring(component.index().getStart(), component.index().getStart() + 1)) > 29
-                            && parseInt(value.substring(components().get(Calendar.MONTH).index().getStart(), components().get(Calendar.MONTH).index().getEnd() + 1)) == 2) {
-                        value = value.substring(0, component.index().getStart() + 1);
+                if(value.length() == end + 1) {
+                    if(parseInt(value.substring(start, end + 1)) > EpochDays.maxLengthOfMonth(EpochDays.FEBRUARY)
+                            && parseInt(value.substring(componentTable().startOf(Calendar.MONTH), componentTable().endOf(Calendar.MONTH) + 1)) == EpochDays.FEBRUARY) {
+                        value = value.substring(0, start + 1);
                         return value;
                     }
                 }
@@ -0,0 +1,237 @@
+package com.vcb.edit.datefield.format.types.variants;
+
+import com.vcb.edit.datefield.constants.InputTypes;
+import com.vcb.edit.datefield.exceptions.ExceptionCreator;
+import com.vcb.edit.datefield.format.FormatTypes;
+import com.vcb.edit.datefield.format.calendar.EpochDays;
+import com.vcb.edit.datefield.format.month.MonthNameMatcher;
+import com.vcb.edit.datefield.format.month.MonthSymbols;
+import com.vcb.edit.datefield.format.types.base.BaseDateFormat;
+import com.vcb.edit.datefield.format.types.component.contract.Component;
+
+import java.util.Calendar;
+import java.util.Map;
+
+public abstract class BaseMMMDD extends BaseDateFormat {
+    /** A map for keeping the integer values of months, if set. The short month names of the default locale are used otherwise. */
+    private volatile Map<String, Integer> monthIndexMap;
+    /** The matcher of the month names in the month index map. Created on first use. */
+    private volatile MonthNameMatcher monthNameMatcher;
+
+    /**
+     * Constructor
+     *
+     * @param format the format
+     */
+    public BaseMMMDD(String format) {
+        super(format);
+    }
+
+    /**
+     * Returns the month index map.
+     * If no map is set, the unmodifiable map of the short month names of the default locale
+     * is returned, shared by all the formats. To change the months, set a map with setMonthMap().
+     * The month names are matched by the matcher created from a set map on first use, so the
+     * changes to the map after that should be set again with setMonthMap().
+     * @return the month index map
+     */
+    public Map<String, Integer> getMonthMap() {
+        Map<String, Integer> monthIndexMap = this.monthIndexMap;
+        return null != monthIndexMap ? monthIndexMap : MonthSymbols.getDefault().getShortMonthMap();
+    }
+
+    /**
+     * Returns whether the format is shared by the fields, as it is registered in FormatTypes,
+     * created by a lazy format or cached by the DateFormatFactory
+     * @return boolean - shared or not
+     * @see FormatTypes#isShared(com.vcb.edit.datefield.format.DateFormat)
+     */
+    public boolean isShared() {
+        return FormatTypes.isShared(this);
+    }
+
+    /**
+     * Sets the month index map.
+     * The month map of a shared format cannot be set, as it would change the other fields too.
+     * Set it on a new instance of the format instead.
+     * @param monthIndexMap - the month index map or null to use the short month names of the default locale
+     * @throws com.vcb.edit.datefield.exceptions.DateFieldInvalidArgumentException if the format is shared
+     */
+    public void setMonthMap(Map<String, Integer> monthIndexMap) {
+        if(isShared()) {
+            throw ExceptionCreator.getInvalidArgumentException("The month map of the shared date format ",
+                    format(), " cannot be set. Set it on a new instance of the format.");
+        }
+        this.monthIndexMap = monthIndexMap;
+        this.monthNameMatcher = null;
+    }
+
+    /**
+     * Returns the matcher of the month names.
+     * If no month index map is set, the matcher of the default locale is returned, so a change
+     * in the default locale changes the matcher.
+     * @return MonthNameMatcher - the matcher of the month names of the month index map
+     */
+    public MonthNameMatcher getMonthNameMatcher() {
+        int length = componentTable().endOf(Calendar.MONTH) - componentTable().startOf(Calendar.MONTH) + 1;
+        if(null == monthIndexMap) {
+            return MonthSymbols.getDefault().getShortMonthMatcher(length);
+        }
+        MonthNameMatcher matcher = monthNameMatcher;
+        if(null == matcher) {
+            matcher = MonthNameMatcher.of(monthIndexMap, length);
+            monthNameMatcher = matcher;
+        }
+        return matcher;
+    }
+
+    /**
+     * Returns the input type of the field to be used for this date format
+     *
+     * @return int - the input type of the field to be used for this date format
+     */
+    @Override
+    public int inputType() {
+        return InputTypes.TYPE_DATETIME_VARIATION_DATE;
+    }
+
+    /**
+     * Checks whether the characters from start to end index exclusive are digits
+     * @param value the value
+     * @param start the start index
+     * @param end the end index, exclusive
+     * @return boolean - digits or not. False if there are no characters.
+     */
+    private boolean isDigits(String value, int start, int end) {
+        if(start >= end) {
+            return false;
+        }
+        for(int i = start; i < end; i++) {
+            if(value.charAt(i) < '0' || value.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Format the input value if any text changes are needed.
+     * If formatting done, returns the formatted text. null will be returned otherwise.
+     * For example
+     *  If date entered is 4, it formats to 04.
+     *  If date entered is 3, waits for the second letter to enter.
+     *  If the month entered is 2, it formats to 02.
+     *  If month entered is 1, waits for the second letter to enter.
+     *  So it will check for maximum possible digit for each component to start with.
+     *  Each letter of the month is checked against the month names, case insensitively.
+     *  A letter that cannot lead to a month name is removed, and a finished month name
+     *  is written as in the month names, like mar -> Mar. When the day is typed before the month,
+     *  the last letter of February is removed for a day more than the days of February, like 31 Feb.
+     * @param component the component
+     * @param value the input value
+     * @return the formatted input value or returns null.
+     *          So if null is returned, assume that it is not formatted
+     */
+    @Override
+    public String formatInput(Component component, String value) {
+        int start = component.index().getStart();
+        int end = component.index().getEnd();
+        try {
+            if(Calendar.MONTH != component.field()) {
+                /** If we are entering a string value for day or year we will trim that.
+                 * Only the characters of this component are checked, not the separator after it. */
+                if(!isDigits(value, start,
+                        Math.min(value.length(), end + 1))) {
+                    value = value.substring(0, start);
+                    return value;
+                }
+            }
+            if(Calendar.MONTH == component.field() && value.length() > start
+                    && value.length() <= end + 1
+                    && !getMonthNameMatcher().isPrefix(value, start,
+                            value.length() - start)) {
+                /** No month name starts with the letters typed. Removes the last letter. */
+                value = value.substring(0, value.length() - 1);
+                return value;
+            }
+            if(Calendar.DATE == component.field()) {
+                int month = getMonthNameMatcher().match(value, componentTable().startOf(Calendar.MONTH));
+                if(value.length() == start + 1) {
+                    /** Check if the single letter typed is greater than 2. Because it should limit from 3 to enter. */
+                    if(parseInt(value.substring(start, start + 1)) > EpochDays.MAX_FEBRUARY_DAY_TENS
+                            && EpochDays.FEBRUARY == month) {
+                        value = value.substring(0, start);
+                        return value;
+                    }
+                }
+                /** Check if the two digits typed for date is greater than 29 and month is February. */
+                if(value.length() == end + 1) {
+                    if(parseInt(value.substring(start, end + 1)) > EpochDays.maxLengthOfMonth(EpochDays.FEBRUARY)
+                            && EpochDays.FEBRUARY == month) {
+                        value = value.substring(0, start + 1);
+                        return value;
+                    }
+                }
+            }
+            /** Added to handle the scenarios where a user clears the text by pressing back button till
+             *  the separator and trying to add again.
+             *  Eg:- Current text is 12/31/2011. Delete till 12 or 12/31 including the separator.
+             *  Now add the text to the end should add a separator before adding the current input.
+             *  Note:- Needed to change HashMap of components to LinkedHashMap with adding the components
+             *  in the occurring order in the format. Also changed the breaking from for loop after
+             *  a component is finished. */
+            if((value.length() > end + 1 && value.length() <= end + 1 + component.separator().length())
+                    && !component.separator().equals(value.substring(end))) {
+                value = new StringBuilder(value.substring(0, end + 1))
+                        .insert(end + 1, component.separator())
+                        .append(value.substring(value.length() - 1))
+                        .toString();
+                return value;
+            }
+
+            /** For adding 0 to the beginning if current added character is greater
+             * than the max digit possible for the component.eg for date, 4 -> 04 */
+            if(Calendar.MONTH != component.field() && value.length() == start + 1
+                    && parseInt(value.substring(start, start + 1)) > component.maxStartDigit()) {
+                value = value.substring(0, start) + "0" + value.charAt(start) + component.separator();
+                return value;
+            }
+
+            if(value.length() == end + 1) {
+                /** For handling inputs like
+                 * 1. 00 :- If enters, then removes the end character and
+                 * 2. 33 -> date and 19 -> month :- max than the component max.
+                 *          If enters, then removes the end character. */
+                Integer intValue;
+                /** The month name typed is written as in the month names. */
+                if(Calendar.MONTH == component.field()) {
+                    intValue = getMonthNameMatcher().match(value, start);
+                    if(MonthNameMatcher.NO_MONTH == intValue) {
+                        value = value.substring(0, value.length() - 1);
+                        return value;
+                    }
+                    /** Check if the month name finished after the day is February and the day is more than the days of February. */
+                    if(EpochDays.FEBRUARY == intValue && componentTable().startOf(Calendar.DATE) < start
+                            && parseInt(value.substring(componentTable().startOf(Calendar.DATE), componentTable().endOf(Calendar.DATE) + 1))
+                                    > EpochDays.maxLengthOfMonth(EpochDays.FEBRUARY)) {
+                        value = value.substring(0, value.length() - 1);
+                        return value;
+                    }
+                    value = value.substring(0, start)
+                            + getMonthNameMatcher().getName(intValue);
+                } else {
+                    intValue = parseInt(value.substring(start, end + 1));
+                }
+                if(null != intValue && !component.isValid(intValue)) {
+                    value = value.substring(0, start + 1);
+                } else {
+                    /** For adding separator after each component end. */
+                    value += component.separator();
+                }
+                return value;
+            }
+        } catch(Exception ex) {
+        }
+        return null;
+    }
+}
@@ -26,8 +26,8 @@ public class DDMMYYYY_Slash extends BaseDDMM {
         super("dd" + separator + "MM" + separator + "yyyy");
         int firstIndex = format.indexOf(separator);
         int secondIndex = format.lastIndexOf(separator);
-        components.put(Calendar.DATE, new DateComponent(Calendar.DATE, new BaseIndex(0, firstIndex - 1), separator, new DateValidator()));
-        components.put(Calendar.MONTH, new MonthComponent(Calendar.MONTH, new BaseIndex(firstIndex + 1, secondIndex - 1), separator, new MonthValidator()));
-        components.put(Calendar.YEAR, new YearComponentYYYY(Calendar.YEAR, new BaseIndex(secondIndex + 1, format().length() - 1), "", new YearValidator()));
+        addComponent(new DateComponent(Calendar.DATE, new BaseIndex(0, firstIndex - 1), separator, new DateValidator()));
+        addComponent(new MonthComponent(Calendar.MONTH, new BaseIndex(firstIndex + 1, secondIndex - 1), separator, new MonthValidator()));
+        addComponent(new YearComponentYYYY(Calendar.YEAR, new BaseIndex(secondIndex + 1, format().length() - 1), "", new YearValidator(YearValidator.MIN_YEAR, Integer.MAX_VALUE)));
     }
 }
@@ -26,8 +26,8 @@ public class DDMMYY_Hyphen extends BaseDDMM {
         super("dd" + separator + "MM" + separator + "yy");
         int firstIndex = format.indexOf(separator);
         int secondIndex = format.lastIndexOf(separator);
-        components.put(Calendar.DATE, new DateComponent(Calendar.DATE, new BaseIndex(0, firstIndex - 1), separator, new DateValidator()));
-        components.put(Calendar.MONTH, new MonthComponent(Calendar.MONTH, new BaseIndex(firstIndex + 1, secondIndex - 1), separator, new MonthValidator()));
-        components.put(Calendar.YEAR, new YearComponentYY(Calendar.YEAR, new BaseIndex(secondIndex + 1, format().length() - 1), "", new YearValidator()));
+        addComponent(new DateComponent(Calendar.DATE, new BaseIndex(0, firstIndex - 1), separator, new DateValidator()));
+        addComponent(new MonthComponent(Calendar.MONTH, new BaseIndex(firstIndex + 1, secondIndex - 1), separator, new MonthValidator()));
+        addComponent(new YearComponentYY(Calendar.YEAR, new BaseIndex(secondIndex + 1, format().length() - 1), "", new YearValidator(0, 99)));
     }
 }
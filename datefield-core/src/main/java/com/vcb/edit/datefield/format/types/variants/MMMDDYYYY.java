@@ -31,8 +31,8 @@ public class MMMDDYYYY extends BaseMMMDD {
         int firstIndex = format.indexOf(monthSeparator);
         int secondStartIndex = format.indexOf(",");
         int thirdStartIndex = format.lastIndexOf(" ");
-        components.put(Calendar.MONTH, new MonthComponent(Calendar.MONTH, new BaseIndex(0, firstIndex - 1), monthSeparator, new MonthValidator()));
-        components.put(Calendar.DATE, new DateComponent(Calendar.DATE, new BaseIndex(firstIndex + 1, secondStartIndex - 1), daySeparator, new DateValidator()));
-        components.put(Calendar.YEAR, new YearComponentYYYY(Calendar.YEAR, new BaseIndex(thirdStartIndex + 1, format().length() - 1), "", new YearValidator()));
+        addComponent(new MonthComponent(Calendar.MONTH, new BaseIndex(0, firstIndex - 1), monthSeparator, new MonthValidator()));
+        addComponent(new DateComponent(Calendar.DATE, new BaseIndex(firstIndex + 1, secondStartIndex - 1), daySeparator, new DateValidator()));
+        addComponent(new YearComponentYYYY(Calendar.YEAR, new BaseIndex(thirdStartIndex + 1, format().length() - 1), "", new YearValidator(YearValidator.MIN_YEAR, Integer.MAX_VALUE)));
     }
 }
@@ -0,0 +1,25 @@
+package com.vcb.edit.datefield.format.types.variants;
+
+import com.vcb.edit.datefield.format.types.component.contract.Component;
+
+import java.util.Map;
+
+/**
+ * Class for date formats compiled from a pattern at runtime, where the month is before the day.
+ * eg:- yyyyMMdd
+ * The components are not modifiable once created.
+ */
+public class PatternMMDD extends BaseMMDD {
+
+    /**
+     * Constructor
+     * @param format the pattern of the format
+     * @param components the components of the format in the order they occur
+     */
+    public PatternMMDD(String format, Map<Integer, Component> components) {
+        super(format);
+        for(Component component : components.values()) {
+            addComponent(component);
+        }
+    }
+}
@@ -26,8 +26,8 @@ public class YYMMDD_Hyphen extends BaseMMDD {
         super("yy" + separator + "MM" + separator + "dd");
         int firstIndex = format.indexOf(separator);
         int secondIndex = format.lastIndexOf(separator);
-        components.put(Calendar.YEAR, new YearComponentYY(Calendar.YEAR, new BaseIndex(0, firstIndex - 1), separator, new YearValidator()));
-        components.put(Calendar.MONTH, new MonthComponent(Calendar.MONTH, new BaseIndex(firstIndex + 1, secondIndex - 1), separator, new MonthValidator()));
-        components.put(Calendar.DATE, new DateComponent(Calendar.DATE, new BaseIndex(secondIndex + 1, format().length() - 1), "", new DateValidator()));
+        addComponent(new YearComponentYY(Calendar.YEAR, new BaseIndex(0, firstIndex - 1), separator, new YearValidator(0, 99)));
+        addComponent(new MonthComponent(Calendar.MONTH, new BaseIndex(firstIndex + 1, secondIndex - 1), separator, new MonthValidator()));
+        addComponent(new DateComponent(Calendar.DATE, new BaseIndex(secondIndex + 1, format().length() - 1), "", new DateValidator()));
     }
 }
@@ -0,0 +1,173 @@
+package com.vcb.edit.datefield.validation;
+
+import com.vcb.edit.datefield.exceptions.ExceptionCreator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Validates many date strings with a DateInputValidator.
+ * The values can be validated on the calling thread or in parallel on a fork/join pool,
+ * where the values are split into ranges and each range writes only its own slots of the result.
+ * So the workers share nothing but the immutable validator and the result arrays.
+ * On Android the parallel mode requires API level 21, where ForkJoinPool was added.
+ */
+public final class BatchDateValidator {
+    /** The number of values validated by a task without splitting it further. */
+    private static final int DEFAULT_SPLIT_THRESHOLD = 4096;
+
+    /** The validator of a value. */
+    private final DateInputValidator validator;
+    /** The number of values validated by a task without splitting it further. */
+    private final int splitThreshold;
+
+    /**
+     * Constructor
+     * @param validator the validator of a value
+     */
+    public BatchDateValidator(DateInputValidator validator) {
+        this(validator, DEFAULT_SPLIT_THRESHOLD);
+    }
+
+    /**
+     * Constructor
+     * @param validator the validator of a value
+     * @param splitThreshold the number of values validated by a parallel task without splitting it further
+     */
+    public BatchDateValidator(DateInputValidator validator, int splitThreshold) {
+        if(null == validator) {
+            throw ExceptionCreator.getInvalidArgumentException("The validator should not be null");
+        }
+        if(splitThreshold < 1) {
+            throw ExceptionCreator.getInvalidArgumentException("The split threshold should be at least 1");
+        }
+        this.validator = validator;
+        this.splitThreshold = splitThreshold;
+    }
+
+    /**
+     * Returns the validator of a value
+     * @return DateInputValidator - the validator
+     */
+    public DateInputValidator getValidator() {
+        return validator;
+    }
+
+    /**
+     * Validates the values on the calling thread
+     * @param values the values to validate
+     * @return BatchValidationResult - the status type and epoch day of each value
+     */
+    public BatchValidationResult validate(CharSequence[] values) {
+        return validate(Arrays.asList(values));
+    }
+
+    /**
+     * Validates the values on the calling thread
+     * @param values the values to validate
+     * @return BatchValidationResult - the status type and epoch day of each value
+     */
+    public BatchValidationResult validate(List<? extends CharSequence> values) {
+        BatchValidationResult result = new BatchValidationResult(values.size());
+        int index = 0;
+        for(CharSequence value : values) {
+            result.set(index++, validator.validate(value));
+        }
+        return result;
+    }
+
+    /**
+     * Validates the values in parallel on a shared pool with a worker for each processor
+     * @param values the values to validate
+     * @return BatchValidationResult - the status type and epoch day of each value
+     */
+    public BatchValidationResult validateParallel(CharSequence[] values) {
+        return validateParallel(Arrays.asList(values), DefaultPool.INSTANCE);
+    }
+
+    /**
+     * Validates the values in parallel on a shared pool with a worker for each processor
+     * @param values the values to validate
+     * @return BatchValidationResult - the status type and epoch day of each value
+     */
+    public BatchValidationResult validateParallel(List<? extends CharSequence> values) {
+        return validateParallel(values, DefaultPool.INSTANCE);
+    }
+
+    /**
+     * Validates the values in parallel on the given pool
+     * @param values the values to validate
+     * @param pool the pool to run the validation on
+     * @return BatchValidationResult - the status type and epoch day of each value
+     */
+    public BatchValidationResult validateParallel(CharSequence[] values, ForkJoinPool pool) {
+        return validateParallel(Arrays.asList(values), pool);
+    }
+
+    /**
+     * Validates the values in parallel on the given pool.
+     * A list without random access is copied first.
+     * @param values the values to validate
+     * @param pool the pool to run the validation on
+     * @return BatchValidationResult - the status type and epoch day of each value
+     */
+    public BatchValidationResult validateParallel(List<? extends CharSequence> values, ForkJoinPool pool) {
+        if(null == pool) {
+            throw ExceptionCreator.getInvalidArgumentException("The pool should not be null");
+        }
+        if(values.size() <= splitThreshold) {
+            return validate(values);
+        }
+        if(!(values instanceof RandomAccess)) {
+            values = new ArrayList<>(values);
+        }
+        BatchValidationResult result = new BatchValidationResult(values.size());
+        pool.invoke(new ValidationTask(values, result, 0, values.size()));
+        return result;
+    }
+
+    /**
+     * Task that validates a range of the values, splitting it into halves until the range is small enough
+     */
+    private final class ValidationTask extends RecursiveAction {
+        /** The values. */
+        private final List<? extends CharSequence> values;
+        /** The result to write to. */
+        private final BatchValidationResult result;
+        /** The first index of the range. */
+        private final int from;
+        /** The index after the last index of the range. */
+        private final int to;
+
+        ValidationTask(List<? extends CharSequence> values, BatchValidationResult result, int from, int to) {
+            this.values = values;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= splitThreshold) {
+                for(int i = from; i < to; i++) {
+                    result.set(i, validator.validate(values.get(i)));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ValidationTask(values, result, from, middle),
+                    new ValidationTask(values, result, middle, to));
+        }
+    }
+
+    /**
+     * Holder of the shared pool. Created when first used.
+     */
+    private static final class DefaultPool {
+        static final ForkJoinPool INSTANCE = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,97 @@
+package com.vcb.edit.datefield.validation;
+
+import com.vcb.edit.datefield.constants.StatusType;
+
+/**
+ * The result of a batch validation.
+ * Holds the ordinal of the StatusType and the epoch day of each value in primitive arrays,
+ * in the order of the values. The epoch day of an invalid value is DateInputValidator.INVALID_DATE.
+ */
+public final class BatchValidationResult {
+    /** The status types by ordinal. */
+    private static final StatusType[] STATUS_TYPES = StatusType.values();
+
+    /** The ordinal of the status type of each value. */
+    private final byte[] statuses;
+    /** The epoch day of each value. */
+    private final int[] epochDays;
+
+    /**
+     * Constructor
+     * @param size the number of values
+     */
+    BatchValidationResult(int size) {
+        this.statuses = new byte[size];
+        this.epochDays = new int[size];
+    }
+
+    /**
+     * Stores the result of a value
+     * @param index the index of the value
+     * @param result the result of DateInputValidator.validate()
+     */
+    void set(int index, long result) {
+        statuses[index] = (byte) (result >>> 32);
+        epochDays[index] = DateInputValidator.epochDayOf(result);
+    }
+
+    /**
+     * Returns the number of values
+     * @return int - the number of values
+     */
+    public int size() {
+        return statuses.length;
+    }
+
+    /**
+     * Returns the ordinals of the status types of the values.
+     * The array is not copied.
+     * @return byte[] - the ordinals of StatusType
+     */
+    public byte[] getStatuses() {
+        return statuses;
+    }
+
+    /**
+     * Returns the epoch days of the values.
+     * The array is not copied.
+     * @return int[] - the epoch days
+     */
+    public int[] getEpochDays() {
+        return epochDays;
+    }
+
+    /**
+     * Returns the status type of the value at the index
+     * @param index the index of the value
+     * @return StatusType - the status type
+     */
+    public StatusType getStatus(int index) {
+        return STATUS_TYPES[statuses[index]];
+    }
+
+    /**
+     * Returns the epoch day of the value at the index
+     * @param index the index of the value
+     * @return int - the epoch day or DateInputValidator.INVALID_DATE
+     */
+    public int getEpochDay(int index) {
+        return epochDays[index];
+    }
+
+    /**
+     * Returns the number of values with the status type
+     * @param statusType the status type
+     * @return int - the count
+     */
+    public int count(StatusType statusType) {
+        int count = 0;
+        byte ordinal = (byte) statusType.ordinal();
+        for(byte status : statuses) {
+            if(ordinal == status) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,214 @@
+package com.vcb.edit.datefield.validation;
+
+import com.vcb.edit.datefield.constants.StatusType;
+import com.vcb.edit.datefield.exceptions.ExceptionCreator;
+import com.vcb.edit.datefield.format.DateFormat;
+import com.vcb.edit.datefield.format.calendar.EpochDays;
+import com.vcb.edit.datefield.format.engine.DateRangeMask;
+import com.vcb.edit.datefield.format.formatter.DateFormatter;
+import com.vcb.edit.datefield.format.parser.FixedWidthDateParser;
+
+/**
+ * Validates date strings against a date format, the lenient mode and an optional date range.
+ * These are the same rules as of the input of a {@code DateField}, without the view.
+ * So the strings of a backend or an import can be checked the same way as the typed ones.
+ * The result of a validation is the status type and the epoch day of the date packed into a long,
+ * see {@link #statusOf(long)} and {@link #epochDayOf(long)}, so no object is created per value
+ * for the fixed width formats.
+ * The validator is immutable and can be shared across threads.
+ */
+public final class DateInputValidator {
+    /** The epoch day used when there is no minimum date. */
+    public static final int NO_MIN_DATE = Integer.MIN_VALUE;
+    /** The epoch day used when there is no maximum date. */
+    public static final int NO_MAX_DATE = Integer.MAX_VALUE;
+    /** The epoch day of a value which is not a valid date. */
+    public static final int INVALID_DATE = FixedWidthDateParser.INVALID;
+    /** The status types by ordinal. */
+    private static final StatusType[] STATUS_TYPES = StatusType.values();
+
+    /** The date format of the values. */
+    private final DateFormat dateFormat;
+    /** Whether the dates are parsed leniently. */
+    private final boolean lenient;
+    /** The epoch day of the minimum date. NO_MIN_DATE if not set. */
+    private final int minEpochDay;
+    /** The epoch day of the maximum date. NO_MAX_DATE if not set. */
+    private final int maxEpochDay;
+    /** The parser of the format. Null if the format is not a fixed width format. */
+    private final FixedWidthDateParser parser;
+    /** The formatter used when there is no parser. */
+    private final DateFormatter formatter;
+    /** The range mask of the incomplete values. Null if there is no range or the format is not supported. */
+    private final DateRangeMask rangeMask;
+
+    /**
+     * Constructor
+     * @param dateFormat the date format of the values
+     * @param lenient whether the dates are parsed leniently
+     */
+    public DateInputValidator(DateFormat dateFormat, boolean lenient) {
+        this(dateFormat, lenient, NO_MIN_DATE, NO_MAX_DATE);
+    }
+
+    /**
+     * Constructor
+     * @param dateFormat the date format of the values
+     * @param lenient whether the dates are parsed leniently
+     * @param minEpochDay the epoch day of the minimum date or NO_MIN_DATE
+     * @param maxEpochDay the epoch day of the maximum date or NO_MAX_DATE
+     */
+    public DateInputValidator(DateFormat dateFormat, boolean lenient, int minEpochDay, int maxEpochDay) {
+        if(null == dateFormat || null == dateFormat.format()) {
+            throw ExceptionCreator.getInvalidArgumentException("The date format should not be null");
+        }
+        this.dateFormat = dateFormat;
+        this.lenient = lenient;
+        this.minEpochDay = minEpochDay;
+        this.maxEpochDay = maxEpochDay;
+        this.parser = FixedWidthDateParser.of(dateFormat);
+        this.formatter = null == parser ? new DateFormatter(lenient) : null;
+        this.rangeMask = DateRangeMask.of(dateFormat, minEpochDay, maxEpochDay);
+    }
+
+    /**
+     * Returns the date format of the validator
+     * @return DateFormat - the date format
+     */
+    public DateFormat getDateFormat() {
+        return dateFormat;
+    }
+
+    /**
+     * Returns whether the dates are parsed leniently
+     * @return boolean - lenient or not
+     */
+    public boolean isLenient() {
+        return lenient;
+    }
+
+    /**
+     * Returns the epoch day of the minimum date
+     * @return int - the epoch day or NO_MIN_DATE if not set
+     */
+    public int getMinEpochDay() {
+        return minEpochDay;
+    }
+
+    /**
+     * Returns the epoch day of the maximum date
+     * @return int - the epoch day or NO_MAX_DATE if not set
+     */
+    public int getMaxEpochDay() {
+        return maxEpochDay;
+    }
+
+    /**
+     * Returns the range mask, which tells whether an incomplete value can still be a date in the range
+     * @return DateRangeMask - the range mask or null if there is no range or the format is not supported
+     */
+    public DateRangeMask getRangeMask() {
+        return rangeMask;
+    }
+
+    /**
+     * Validates the value.
+     * The value should have the length of the format and should be a date in the range.
+     * A shorter value that cannot be completed to a date in the range is NO_VALID_COMPLETION.
+     * @param value the value to validate
+     * @return long - the status type and the epoch day of the value
+     * @see #statusOf(long)
+     * @see #epochDayOf(long)
+     */
+    public long validate(CharSequence value) {
+        if(null == value || dateFormat.length() != value.length()) {
+            if(null != value && null != rangeMask && value.length() < dateFormat.length() && !rangeMask.isCompletable(value)) {
+                return pack(StatusType.NO_VALID_COMPLETION, INVALID_DATE);
+            }
+            return pack(StatusType.INVALID, INVALID_DATE);
+        }
+        int epochDay = parse(value);
+        if(INVALID_DATE == epochDay) {
+            return pack(StatusType.INVALID, INVALID_DATE);
+        }
+        if(epochDay < minEpochDay) {
+            return pack(StatusType.OUT_OF_MIN_RANGE, epochDay);
+        }
+        if(epochDay > maxEpochDay) {
+            return pack(StatusType.OUT_OF_MAX_RANGE, epochDay);
+        }
+        return pack(StatusType.VALID, epochDay);
+    }
+
+    /**
+     * Returns the status type of the value
+     * @param value the value to validate
+     * @return StatusType - the status type
+     */
+    public StatusType getStatus(CharSequence value) {
+        return statusOf(validate(value));
+    }
+
+    /**
+     * Parses the value to epoch day. The range is not checked.
+     * Fixed width formats are parsed without SimpleDateFormat.
+     * @param value the value to parse
+     * @return int - the epoch day or INVALID_DATE if not a valid date
+     */
+    public int parse(CharSequence value) {
+        if(null == value) {
+            return INVALID_DATE;
+        }
+        if(null != parser) {
+            return parser.parse(value, lenient);
+        }
+        try {
+            return EpochDays.ofDate(formatter.parse(value.toString(), dateFormat.format()));
+        } catch (Exception ex) {
+        }
+        return INVALID_DATE;
+    }
+
+    /**
+     * Returns the text of the epoch day in the date format.
+     * Fixed width formats are written without SimpleDateFormat, Calendar or java.util.Date.
+     * @param epochDay the epoch day
+     * @return String - the text of the date
+     */
+    public String format(int epochDay) {
+        String text = null == parser ? null : parser.format(epochDay);
+        if(null != text) {
+            return text;
+        }
+        DateFormatter formatter = null == this.formatter ? new DateFormatter(lenient) : this.formatter;
+        return formatter.format(EpochDays.toDate(epochDay), dateFormat.format());
+    }
+
+    /**
+     * Returns the status type of a validation result
+     * @param result the result of {@link #validate(CharSequence)}
+     * @return StatusType - the status type
+     */
+    public static StatusType statusOf(long result) {
+        return STATUS_TYPES[(int) (result >>> 32)];
+    }
+
+    /**
+     * Returns the epoch day of a validation result
+     * @param result the result of {@link #validate(CharSequence)}
+     * @return int - the epoch day or INVALID_DATE if the value is not a valid date
+     */
+    public static int epochDayOf(long result) {
+        return (int) result;
+    }
+
+    /**
+     * Packs the status type and the epoch day into a long
+     * @param statusType the status type
+     * @param epochDay the epoch day
+     * @return long - the packed result
+     */
+    private static long pack(StatusType statusType, int epochDay) {
+        return ((long) statusType.ordinal() << 32) | (epochDay & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,119 @@
+package com.vcb.edit.datefield.validation;
+
+import com.vcb.edit.datefield.constants.StatusType;
+import com.vcb.edit.datefield.format.calendar.EpochDays;
+
+import java.util.Date;
+
+/**
+ * Immutable result of validating a text, with the revision of the text and the validator used.
+ * The snapshot stays current as long as the text and the validator are not changed,
+ * so the status, the epoch day and the date of the same text are computed only once.
+ */
+public final class ValidationSnapshot {
+    /** The validator used. */
+    private final DateInputValidator validator;
+    /** The revision of the text. */
+    private final int revision;
+    /** The validated text. */
+    private final String text;
+    /** The status type of the text. */
+    private final StatusType status;
+    /** The epoch day of the text or DateInputValidator.INVALID_DATE. */
+    private final int epochDay;
+    /** The date of the text in milliseconds. Only if the status is VALID. */
+    private final long dateInMillis;
+
+    /**
+     * Constructor
+     * @param validator the validator used
+     * @param revision the revision of the text
+     * @param text the validated text
+     * @param result the result of the validator
+     */
+    private ValidationSnapshot(DateInputValidator validator, int revision, String text, long result) {
+        this.validator = validator;
+        this.revision = revision;
+        this.text = text;
+        this.status = DateInputValidator.statusOf(result);
+        this.epochDay = DateInputValidator.epochDayOf(result);
+        this.dateInMillis = StatusType.VALID == status ? EpochDays.toMillis(epochDay) : 0;
+    }
+
+    /**
+     * Validates the text and returns the snapshot
+     * @param validator the validator
+     * @param revision the revision of the text
+     * @param text the text to validate
+     * @return ValidationSnapshot - the snapshot
+     */
+    public static ValidationSnapshot create(DateInputValidator validator, int revision, String text) {
+        return new ValidationSnapshot(validator, revision, text, validator.validate(text));
+    }
+
+    /**
+     * Checks whether the snapshot is of the validator and the revision of the text
+     * @param validator the current validator
+     * @param revision the current revision of the text
+     * @return boolean - current or not
+     */
+    public boolean isFor(DateInputValidator validator, int revision) {
+        return this.validator == validator && this.revision == revision;
+    }
+
+    /**
+     * Returns the revision of the text
+     * @return int - the revision
+     */
+    public int getRevision() {
+        return revision;
+    }
+
+    /**
+     * Returns the validated text
+     * @return String - the text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the status type of the text
+     * @return StatusType - the status type
+     */
+    public StatusType getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns whether the text is a valid date in the range
+     * @return boolean - valid or not
+     */
+    public boolean isValid() {
+        return StatusType.VALID == status;
+    }
+
+    /**
+     * Returns the epoch day of the text. Set for the dates out of the range too.
+     * @return int - the epoch day or DateInputValidator.INVALID_DATE
+     */
+    public int getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Returns the text if it is valid
+     * @return String - the text or null if not valid
+     */
+    public String getDateString() {
+        return isValid() ? text : null;
+    }
+
+    /**
+     * Returns the date of the text if it is valid. A new Date is returned for every call.
+     * @return Date - the date or null if not valid
+     */
+    public Date getDate() {
+        return isValid() ? new Date(dateInMillis) : null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.vcb.edit.datefield.exceptions;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the messages and the stack traces of the exceptions of the ExceptionCreator.
+ */
+public class ExceptionCreatorTest {
+
+    @Test
+    public void stringMessage_isPassedThrough() {
+        assertNull(ExceptionCreator.getGeneralException((String) null).getMessage());
+        assertNull(ExceptionCreator.getInvalidArgumentException((String) null).getMessage());
+        assertNull(new DateFieldException(false, (String) null).getMessage());
+        assertEquals("Invalid", ExceptionCreator.getInvalidArgumentException("Invalid").getMessage());
+    }
+
+    @Test
+    public void messageParts_areJoinedOnRead() {
+        StringBuilder part = new StringBuilder("01/01/2020");
+        DateFieldInvalidArgumentException exception =
+                ExceptionCreator.getInvalidArgumentException("The value ", part, " is invalid");
+        assertEquals("The value 01/01/2020 is invalid", exception.getMessage());
+        part.setLength(0);
+        assertEquals("The value 01/01/2020 is invalid", exception.getMessage());
+        assertNull(ExceptionCreator.getGeneralException(new Object[]{null}).getMessage());
+        assertNull(ExceptionCreator.getGeneralException(new Object[0]).getMessage());
+    }
+
+    @Test
+    public void disabledStackTrace_isEmpty() {
+        try {
+            ExceptionCreator.setStackTraceEnabled(false);
+            assertEquals(0, ExceptionCreator.getGeneralException("Invalid").getStackTrace().length);
+            assertEquals(0, ExceptionCreator.getInvalidArgumentException("The value ", 1).getStackTrace().length);
+        } finally {
+            ExceptionCreator.setStackTraceEnabled(true);
+        }
+        assertTrue(ExceptionCreator.getGeneralException("Invalid").getStackTrace().length > 0);
+    }
+}
@@ -0,0 +1,78 @@
+package com.vcb.edit.datefield.format;
+
+import com.vcb.edit.datefield.exceptions.DateFieldInvalidArgumentException;
+import com.vcb.edit.datefield.format.types.variants.BaseMMMDD;
+import com.vcb.edit.datefield.format.types.variants.MMMDDYYYY;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the formats of the FormatTypes, and that only the formats shared by the fields are locked.
+ */
+public class FormatTypesTest {
+    /**
+     * The formats of the FormatTypes
+     */
+    private static final DateFormat[] FORMATS = {
+            FormatTypes.DD_MM_YY_SLASH, FormatTypes.DD_MM_YYYY_SLASH,
+            FormatTypes.YY_MM_DD_SLASH, FormatTypes.YYYY_MM_DD_SLASH,
+            FormatTypes.DD_MM_YY_HYPHEN, FormatTypes.DD_MM_YYYY_HYPHEN,
+            FormatTypes.YY_MM_DD_HYPHEN, FormatTypes.YYYY_MM_DD_HYPHEN,
+            FormatTypes.MMMM_DD_YYYY
+    };
+
+    @Test
+    public void builtInFormats_createTheFormatOfTheirPattern() {
+        for(DateFormat format : FORMATS) {
+            DateFormat actual = LazyDateFormat.unwrap(format);
+            assertNotSame(format, actual);
+            assertEquals(format.format(), actual.format());
+            assertSame(actual, LazyDateFormat.unwrap(format));
+            assertSame(format, FormatTypes.get(format.format()));
+            assertEquals(3, format.numberOfComponents());
+        }
+    }
+
+    @Test
+    public void sharedMonthNameFormats_cannotSetTheMonthMap() {
+        BaseMMMDD[] shared = {
+                (BaseMMMDD) LazyDateFormat.unwrap(FormatTypes.MMMM_DD_YYYY),
+                (BaseMMMDD) DateFormatFactory.get("dd MMM yyyy")
+        };
+        for(BaseMMMDD format : shared) {
+            assertTrue(format.format(), format.isShared());
+            try {
+                format.setMonthMap(Collections.singletonMap("Jan", 1));
+                fail(format.format());
+            } catch (DateFieldInvalidArgumentException expected) {
+                assertNull(format.getMonthMap().get("x"));
+            }
+        }
+    }
+
+    @Test
+    public void newMonthNameFormat_canSetTheMonthMap() {
+        MMMDDYYYY format = new MMMDDYYYY();
+        assertFalse(format.isShared());
+        HashMap<String, Integer> monthMap = new HashMap<>();
+        monthMap.put("Jan", 1);
+        format.setMonthMap(monthMap);
+        assertSame(monthMap, format.getMonthMap());
+        assertFalse(new MMMDDYYYY().isShared());
+    }
+
+    @Test
+    public void components_cannotBeChanged() {
+        try {
+            LazyDateFormat.unwrap(FormatTypes.DD_MM_YYYY_SLASH).components().clear();
+            fail();
+        } catch (UnsupportedOperationException expected) {
+            assertEquals(3, FormatTypes.DD_MM_YYYY_SLASH.numberOfComponents());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.vcb.edit.datefield.format.calendar;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the leap years, the lengths of the months and the lenient dates of EpochDays,
+ * and the epoch days against GregorianCalendar.
+ */
+public class EpochDaysTest {
+
+    @Test
+    public void february29_followsTheCenturyRules() {
+        assertTrue(EpochDays.isValid(2020, EpochDays.FEBRUARY, 29));
+        assertFalse(EpochDays.isValid(2021, EpochDays.FEBRUARY, 29));
+        assertFalse(EpochDays.isValid(1900, EpochDays.FEBRUARY, 29));
+        assertFalse(EpochDays.isValid(2100, EpochDays.FEBRUARY, 29));
+        assertTrue(EpochDays.isValid(2000, EpochDays.FEBRUARY, 29));
+        assertTrue(EpochDays.isValid(2400, EpochDays.FEBRUARY, 29));
+        assertTrue(EpochDays.isValid(1900, EpochDays.FEBRUARY, 28));
+        assertFalse(EpochDays.isValid(2020, EpochDays.FEBRUARY, 30));
+    }
+
+    @Test
+    public void isValid_rejectsOutOfRangeValues() {
+        assertFalse(EpochDays.isValid(0, 1, 1));
+        assertFalse(EpochDays.isValid(2020, 0, 1));
+        assertFalse(EpochDays.isValid(2020, 13, 1));
+        assertFalse(EpochDays.isValid(2020, 1, 0));
+        assertFalse(EpochDays.isValid(2020, 4, 31));
+        assertTrue(EpochDays.isValid(2020, 12, 31));
+        assertTrue(EpochDays.isValid(1, 1, 1));
+    }
+
+    @Test
+    public void maxLengthOfMonth_isTheLeapYearLength() {
+        int[] lengths = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+        for(int month = 1; month <= 12; month++) {
+            assertEquals(lengths[month - 1], EpochDays.maxLengthOfMonth(month));
+        }
+        assertEquals(31, EpochDays.maxLengthOfMonth(0));
+        assertEquals(31, EpochDays.maxLengthOfMonth(13));
+    }
+
+    @Test
+    public void ofLenient_rollsTheMonthAndDay() {
+        assertEquals(EpochDays.of(2021, 1, 1), EpochDays.ofLenient(2020, 13, 1));
+        assertEquals(EpochDays.of(2019, 12, 1), EpochDays.ofLenient(2020, 0, 1));
+        assertEquals(EpochDays.of(2019, 1, 1), EpochDays.ofLenient(2020, -11, 1));
+        assertEquals(EpochDays.of(2018, 12, 1), EpochDays.ofLenient(2020, -12, 1));
+        assertEquals(EpochDays.of(2020, 2, 29), EpochDays.ofLenient(2020, 3, 0));
+        assertEquals(EpochDays.of(2021, 2, 28), EpochDays.ofLenient(2021, 3, 0));
+        assertEquals(EpochDays.of(1900, 2, 28), EpochDays.ofLenient(1900, 3, 0));
+        assertEquals(EpochDays.of(2000, 3, 1), EpochDays.ofLenient(2000, 2, 30));
+        assertEquals(EpochDays.of(2100, 3, 2), EpochDays.ofLenient(2100, 2, 30));
+    }
+
+    @Test
+    public void epochDays_matchGregorianCalendar() {
+        GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        calendar.clear();
+        calendar.set(1600, Calendar.JANUARY, 1);
+        int epochDay = EpochDays.of(1600, 1, 1);
+        assertEquals(calendar.getTimeInMillis() / 86400000L, epochDay);
+        while(calendar.get(Calendar.YEAR) <= 2400) {
+            int year = calendar.get(Calendar.YEAR);
+            int month = calendar.get(Calendar.MONTH) + 1;
+            int day = calendar.get(Calendar.DATE);
+            assertEquals(year + "-" + month + "-" + day, epochDay, EpochDays.of(year, month, day));
+            assertEquals(year, EpochDays.yearOf(epochDay));
+            assertEquals(month, EpochDays.monthOf(epochDay));
+            assertEquals(day, EpochDays.dayOfMonthOf(epochDay));
+            assertTrue(EpochDays.isValid(year, month, day));
+            assertEquals(calendar.getActualMaximum(Calendar.DATE), EpochDays.lengthOfMonth(year, month));
+            calendar.add(Calendar.DATE, 1);
+            epochDay++;
+        }
+    }
+}
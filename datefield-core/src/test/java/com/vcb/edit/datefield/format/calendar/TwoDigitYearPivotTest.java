@@ -0,0 +1,55 @@
+package com.vcb.edit.datefield.format.calendar;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the years of the TwoDigitYearPivot around the start of the century.
+ */
+public class TwoDigitYearPivotTest {
+
+    @Test
+    public void twoDigitYears_areInTheCenturyFromTheStartYear() {
+        TwoDigitYearPivot pivot = new TwoDigitYearPivot(EpochDays.of(2020, 6, 15));
+        assertEquals(1940, pivot.getStartYear());
+        assertEquals(EpochDays.of(1940, 6, 15), pivot.getStartEpochDay());
+        assertEquals(1940, pivot.toYear(40));
+        assertEquals(1999, pivot.toYear(99));
+        assertEquals(2000, pivot.toYear(0));
+        assertEquals(2039, pivot.toYear(39));
+    }
+
+    @Test
+    public void startYear_isInTheNextCenturyUntilTheStartDay() {
+        TwoDigitYearPivot pivot = new TwoDigitYearPivot(EpochDays.of(2020, 6, 15));
+        assertEquals(2040, pivot.toFullYear(40, 6, 14));
+        assertEquals(2040, pivot.toFullYear(40, 6, 15));
+        assertEquals(1940, pivot.toFullYear(40, 6, 16));
+        assertEquals(1940, pivot.toFullYear(40, 12, 31));
+        assertEquals(2040, pivot.toFullYear(40, 1, 1));
+        assertEquals(1941, pivot.toFullYear(41, 1, 1));
+        assertEquals(2039, pivot.toFullYear(39, 12, 31));
+        assertEquals(EpochDays.of(2040, 6, 15), pivot.toEpochDay(40, 6, 15));
+        assertEquals(EpochDays.of(1940, 6, 16), pivot.toEpochDay(40, 6, 16));
+    }
+
+    @Test
+    public void startOfCenturyYear_wrapsAtTheCentury() {
+        TwoDigitYearPivot pivot = new TwoDigitYearPivot(EpochDays.of(2080, 3, 1));
+        assertEquals(2000, pivot.getStartYear());
+        assertEquals(2000, pivot.toYear(0));
+        assertEquals(2099, pivot.toYear(99));
+        assertEquals(2100, pivot.toFullYear(0, 2, 29));
+        assertEquals(2000, pivot.toFullYear(0, 3, 2));
+    }
+
+    @Test
+    public void february29_goesToFebruary28InACommonStartYear() {
+        TwoDigitYearPivot pivot = new TwoDigitYearPivot(EpochDays.of(2180, 2, 29));
+        assertEquals(2100, pivot.getStartYear());
+        assertEquals(EpochDays.of(2100, 2, 28), pivot.getStartEpochDay());
+        pivot = new TwoDigitYearPivot(EpochDays.of(2024, 2, 29));
+        assertEquals(EpochDays.of(1944, 2, 29), pivot.getStartEpochDay());
+    }
+}
@@ -0,0 +1,132 @@
+package com.vcb.edit.datefield.format.engine;
+
+import com.vcb.edit.datefield.constants.StatusType;
+import com.vcb.edit.datefield.format.DateFormat;
+import com.vcb.edit.datefield.format.DateFormatFactory;
+import com.vcb.edit.datefield.format.FormatTypes;
+import com.vcb.edit.datefield.format.calendar.EpochDays;
+import com.vcb.edit.datefield.format.calendar.TwoDigitYearPivot;
+import com.vcb.edit.datefield.validation.DateInputValidator;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the date range mask of each of the FormatTypes and the month name patterns against the dates of a range.
+ * Every prefix of a date in the range should be completable, and a date out of the range should not be.
+ */
+public class DateRangeMaskTest {
+    /**
+     * The formats of the FormatTypes and the month name patterns of the DateFormatFactory
+     */
+    private static final DateFormat[] FORMATS = {
+            FormatTypes.DD_MM_YY_SLASH, FormatTypes.DD_MM_YYYY_SLASH,
+            FormatTypes.YY_MM_DD_SLASH, FormatTypes.YYYY_MM_DD_SLASH,
+            FormatTypes.DD_MM_YY_HYPHEN, FormatTypes.DD_MM_YYYY_HYPHEN,
+            FormatTypes.YY_MM_DD_HYPHEN, FormatTypes.YYYY_MM_DD_HYPHEN,
+            FormatTypes.MMMM_DD_YYYY,
+            DateFormatFactory.get("dd MMM yyyy"), DateFormatFactory.get("yyyy-MMM-dd")
+    };
+    /**
+     * The number of days checked on the open side of a range and outside a bound
+     */
+    private static final int DAYS = 400;
+
+    @Test
+    public void prefixesOfDatesInRange_areCompletable() {
+        int pivotYear = TwoDigitYearPivot.now().getStartYear();
+        int[][] ranges = {
+                {EpochDays.of(2019, 12, 20), EpochDays.of(2020, 1, 10)},
+                {EpochDays.of(2020, 2, 1), EpochDays.of(2020, 3, 31)},
+                {EpochDays.of(1990, 1, 1), EpochDays.of(2010, 12, 31)},
+                {EpochDays.of(2020, 6, 15), DateRangeMask.NO_MAX_DATE},
+                {DateRangeMask.NO_MIN_DATE, EpochDays.of(1999, 3, 10)},
+                /** Across the pivot, where the two digit years go from the next century to the first one. */
+                {EpochDays.of(pivotYear + 99, 12, 1), EpochDays.of(pivotYear + 100, 1, 31)}
+        };
+        for(DateFormat format : FORMATS) {
+            for(int[] range : ranges) {
+                checkRange(format, range[0], range[1]);
+            }
+        }
+    }
+
+    @Test
+    public void monthNameNotTyped_isAnyMonth() {
+        DateFormat format = DateFormatFactory.get("dd MMM yyyy");
+        DateRangeMask mask = DateRangeMask.of(format, EpochDays.of(2020, 2, 10), EpochDays.of(2020, 2, 20));
+        assertTrue(mask.isCompletable("15 "));
+        assertTrue(mask.isCompletable("15 Fe"));
+        assertTrue(mask.isCompletable("15 Feb"));
+        assertFalse(mask.isCompletable("15 Mar"));
+        /** No month has a day 25 in the range, even before the month name is typed. */
+        assertFalse(mask.isCompletable("25 "));
+        assertFalse(mask.isCompletable("25 Fe"));
+    }
+
+    @Test
+    public void noCompletionInRange_isNoValidCompletion() {
+        DateInputValidator validator = new DateInputValidator(FormatTypes.DD_MM_YYYY_SLASH, false,
+                EpochDays.of(2020, 1, 1), EpochDays.of(2020, 12, 31));
+        assertEquals(StatusType.NO_VALID_COMPLETION, validator.getStatus("01/01/19"));
+        assertEquals(StatusType.NO_VALID_COMPLETION, validator.getStatus("01/13"));
+        assertEquals(StatusType.INVALID, validator.getStatus("01/01/20"));
+        assertEquals(StatusType.INVALID, validator.getStatus("31/12/2"));
+        assertEquals(StatusType.OUT_OF_MIN_RANGE, validator.getStatus("31/12/2019"));
+        assertEquals(StatusType.OUT_OF_MAX_RANGE, validator.getStatus("01/01/2021"));
+        assertEquals(StatusType.VALID, validator.getStatus("01/01/2020"));
+    }
+
+    @Test
+    public void noRange_hasNoMask() {
+        assertNull(DateRangeMask.of(FormatTypes.DD_MM_YYYY_SLASH, DateRangeMask.NO_MIN_DATE, DateRangeMask.NO_MAX_DATE));
+    }
+
+    /**
+     * Checks the prefixes of the dates in the range and the dates out of it
+     * @param format the date format
+     * @param min the epoch day of the minimum date or NO_MIN_DATE
+     * @param max the epoch day of the maximum date or NO_MAX_DATE
+     */
+    private static void checkRange(DateFormat format, int min, int max) {
+        DateRangeMask mask = DateRangeMask.of(format, min, max);
+        assertNotNull("No mask for " + format.format(), mask);
+        DateInputValidator validator = new DateInputValidator(format, false, min, max);
+        int first = DateRangeMask.NO_MIN_DATE == min ? max - DAYS : min;
+        int last = DateRangeMask.NO_MAX_DATE == max ? min + DAYS : max;
+        Set<String> inRange = new HashSet<>();
+        char[] buffer = new char[format.length()];
+        for(int epochDay = first; epochDay <= last; epochDay++) {
+            String text = validator.format(epochDay);
+            inRange.add(text);
+            text.getChars(0, text.length(), buffer, 0);
+            for(int length = 0; length <= text.length(); length++) {
+                String prefix = text.substring(0, length);
+                assertTrue(format.format() + " '" + prefix + "' of " + text, mask.isCompletable(prefix));
+                assertTrue(format.format() + " '" + prefix + "' of " + text, mask.isCompletable(buffer, length));
+            }
+        }
+        for(int day = 1; day <= DAYS; day++) {
+            if(DateRangeMask.NO_MIN_DATE != min) {
+                assertOutOfRange(format, mask, validator.format(min - day), inRange);
+            }
+            if(DateRangeMask.NO_MAX_DATE != max) {
+                assertOutOfRange(format, mask, validator.format(max + day), inRange);
+            }
+        }
+    }
+
+    /**
+     * Asserts that the text of a date out of the range is not completable.
+     * A two digit year can be of two centuries at the pivot, so a text that is also of a date in the range is skipped.
+     */
+    private static void assertOutOfRange(DateFormat format, DateRangeMask mask, String text, Set<String> inRange) {
+        if(!inRange.contains(text)) {
+            assertFalse(format.format() + " " + text, mask.isCompletable(text));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.vcb.edit.datefield.format.engine;
+
+import com.vcb.edit.datefield.format.DateFormat;
+import com.vcb.edit.datefield.format.DateFormatFactory;
+import com.vcb.edit.datefield.format.FormatTypes;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the keystroke engine of each of the FormatTypes against the formatInput() of the format.
+ * The keystrokes are random, with the deletions in between, and the seed is fixed so a failure repeats.
+ */
+public class KeystrokeEngineTest {
+    /**
+     * The formats of the FormatTypes and the month name patterns of the DateFormatFactory
+     */
+    private static final DateFormat[] FORMATS = {
+            FormatTypes.DD_MM_YY_SLASH, FormatTypes.DD_MM_YYYY_SLASH,
+            FormatTypes.YY_MM_DD_SLASH, FormatTypes.YYYY_MM_DD_SLASH,
+            FormatTypes.DD_MM_YY_HYPHEN, FormatTypes.DD_MM_YYYY_HYPHEN,
+            FormatTypes.YY_MM_DD_HYPHEN, FormatTypes.YYYY_MM_DD_HYPHEN,
+            FormatTypes.MMMM_DD_YYYY,
+            DateFormatFactory.get("dd MMM yyyy"), DateFormatFactory.get("yyyy-MMM-dd")
+    };
+    /**
+     * The letters typed for the month names
+     */
+    private static final String MONTH_LETTERS = "JanFebMrApyulgSOctNvDejFMAOND";
+    /**
+     * The number of the typing runs per format
+     */
+    private static final int RUNS = 5000;
+    /**
+     * The maximum number of the keystrokes of a run
+     */
+    private static final int KEYSTROKES = 30;
+
+    @Test
+    public void engine_matchesFormatInput() {
+        Random random = new Random(7);
+        for(DateFormat format : FORMATS) {
+            KeystrokeEngine engine = FormatCompiler.compile(format);
+            assertNotNull("No engine for " + format.format(), engine);
+            boolean monthName = format.format().contains("MMM");
+            int monthStart = format.componentTable().startOf(Calendar.MONTH);
+            int monthEnd = format.componentTable().endOf(Calendar.MONTH);
+            char[] buffer = new char[format.length()];
+            for(int run = 0; run < RUNS; run++) {
+                String text = "";
+                for(int keystroke = 0; keystroke < KEYSTROKES && text.length() < format.length(); keystroke++) {
+                    if(!text.isEmpty() && 0 == random.nextInt(5)) {
+                        text = text.substring(0, text.length() - 1);
+                        continue;
+                    }
+                    String typed = text + nextChar(random, monthName,
+                            monthName && text.length() >= monthStart && text.length() <= monthEnd);
+                    String expected = formatInput(format, typed);
+                    int length = engine.apply(typed, text.length(), buffer);
+                    assertEquals(format.format() + " typing '" + typed + "'", expected, new String(buffer, 0, length));
+                    text = expected;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void monthNameAfterDay_rejectsFebruaryForDaysAfter29() {
+        DateFormat format = DateFormatFactory.get("dd MMM yyyy");
+        KeystrokeEngine engine = FormatCompiler.compile(format);
+        char[] buffer = new char[format.length()];
+        assertEquals("31 Fe", formatInput(format, "31 Feb"));
+        assertEquals("31 Fe", new String(buffer, 0, engine.apply("31 Feb", 5, buffer)));
+        assertEquals("29 Feb ", formatInput(format, "29 Feb"));
+        assertEquals("29 Feb ", new String(buffer, 0, engine.apply("29 Feb", 5, buffer)));
+    }
+
+    /**
+     * Returns the next random character typed
+     * @param random the random source
+     * @param monthName whether the format has a month name
+     * @param monthNamePosition whether the month name is typed at the position
+     * @return char - a letter, a separator or a digit
+     */
+    private static char nextChar(Random random, boolean monthName, boolean monthNamePosition) {
+        if(monthNamePosition && random.nextInt(10) > 0) {
+            return MONTH_LETTERS.charAt(random.nextInt(MONTH_LETTERS.length()));
+        }
+        if(monthName && 0 == random.nextInt(15)) {
+            return ", x".charAt(random.nextInt(3));
+        }
+        return (char) ('0' + random.nextInt(10));
+    }
+
+    /**
+     * Formats the typed text with formatInput() of the format, capped at the format length as the field does
+     * @param format the date format
+     * @param text the typed text
+     * @return String - the formatted text
+     */
+    private static String formatInput(DateFormat format, String text) {
+        String formatted = format.formatInput(text);
+        return formatted.length() > format.length() ? formatted.substring(0, format.length()) : formatted;
+    }
+}
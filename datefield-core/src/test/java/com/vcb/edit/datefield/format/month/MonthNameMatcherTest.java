@@ -0,0 +1,105 @@
+package com.vcb.edit.datefield.format.month;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the prefixes and the matches of the MonthNameMatcher for the short English month names.
+ */
+public class MonthNameMatcherTest {
+    /**
+     * The short English month names, in the order of the months
+     */
+    private static final String[] NAMES = {"Jan", "Feb", "Mar", "Apr", "May", "Jun",
+            "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+
+    @Test
+    public void prefix_isCaseFolded() {
+        MonthNameMatcher matcher = matcher();
+        for(String prefix : new String[]{"", "f", "F", "fe", "FE", "fE", "feb", "FEB", "dEc"}) {
+            assertTrue(prefix, matcher.isPrefix(prefix, 0, prefix.length()));
+            assertTrue(prefix, matcher.isPrefix(prefix.toCharArray(), 0, prefix.length()));
+        }
+        assertEquals(2, matcher.match("FEB", 0));
+        assertEquals(2, matcher.match("feb".toCharArray(), 0));
+        assertEquals(12, matcher.match("01 dEC", 3));
+    }
+
+    @Test
+    public void ambiguousPrefix_isPrefixOfEachMonth() {
+        MonthNameMatcher matcher = matcher();
+        assertTrue(matcher.isPrefix("Ju", 0, 2));
+        assertTrue(matcher.isPrefix("ma", 0, 2));
+        assertTrue(matcher.isPrefix("A", 0, 1));
+        assertEquals(6, matcher.match("Jun", 0));
+        assertEquals(7, matcher.match("jul", 0));
+        assertEquals(3, matcher.match("Mar", 0));
+        assertEquals(5, matcher.match("MAY", 0));
+        assertEquals(4, matcher.match("apr", 0));
+        assertEquals(8, matcher.match("Aug", 0));
+    }
+
+    @Test
+    public void wrongCharacter_isNotPrefix() {
+        MonthNameMatcher matcher = matcher();
+        assertFalse(matcher.isPrefix("Jx", 0, 2));
+        assertFalse(matcher.isPrefix("x", 0, 1));
+        assertFalse(matcher.isPrefix("Juu", 0, 3));
+        assertFalse(matcher.isPrefix("1", 0, 1));
+        assertFalse(matcher.isPrefix("Janu", 0, 4));
+        assertEquals(MonthNameMatcher.NO_MONTH, matcher.match("Jux", 0));
+    }
+
+    @Test
+    public void shortText_doesNotMatch() {
+        MonthNameMatcher matcher = matcher();
+        assertEquals(MonthNameMatcher.NO_MONTH, matcher.match("Ju", 0));
+        assertEquals(MonthNameMatcher.NO_MONTH, matcher.match("01 Ja", 3));
+        assertEquals(MonthNameMatcher.NO_MONTH, matcher.match("Ja".toCharArray(), 0));
+    }
+
+    @Test
+    public void names_areInTheCaseOfTheMap() {
+        MonthNameMatcher matcher = matcher();
+        char[] buffer = "01 xxx".toCharArray();
+        assertTrue(matcher.copyName(9, buffer, 3));
+        assertEquals("01 Sep", new String(buffer));
+        for(int month = 1; month <= 12; month++) {
+            assertEquals(NAMES[month - 1], matcher.getName(month));
+        }
+        assertNull(matcher.getName(13));
+        assertFalse(matcher.copyName(0, buffer, 3));
+    }
+
+    @Test
+    public void namesOfOtherLength_areNotMatched() {
+        Map<String, Integer> monthMap = monthMap();
+        monthMap.put("June", 6);
+        MonthNameMatcher matcher = MonthNameMatcher.of(monthMap, 3);
+        assertEquals(3, matcher.length());
+        assertFalse(matcher.isPrefix("Jun", 0, 4));
+        assertEquals(6, matcher.match("June", 0));
+    }
+
+    /**
+     * Returns the matcher of the short English month names
+     */
+    private static MonthNameMatcher matcher() {
+        return MonthNameMatcher.of(monthMap(), 3);
+    }
+
+    /**
+     * Returns the short English month names and their values
+     */
+    private static Map<String, Integer> monthMap() {
+        Map<String, Integer> monthMap = new HashMap<>();
+        for(int i = 0; i < NAMES.length; i++) {
+            monthMap.put(NAMES[i], i + 1);
+        }
+        return monthMap;
+    }
+}
@@ -0,0 +1,142 @@
+package com.vcb.edit.datefield.format.parser;
+
+import com.vcb.edit.datefield.format.DateFormat;
+import com.vcb.edit.datefield.format.FormatTypes;
+import com.vcb.edit.datefield.format.calendar.EpochDays;
+import com.vcb.edit.datefield.validation.DateInputValidator;
+
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the strict parse and the format of the fixed width parser against SimpleDateFormat.
+ * The dates are compared from the minimum year of the YearValidator, after the Gregorian cutover.
+ */
+public class FixedWidthDateParserTest {
+    /**
+     * The formats of the FormatTypes
+     */
+    private static final DateFormat[] FORMATS = {
+            FormatTypes.DD_MM_YY_SLASH, FormatTypes.DD_MM_YYYY_SLASH,
+            FormatTypes.YY_MM_DD_SLASH, FormatTypes.YYYY_MM_DD_SLASH,
+            FormatTypes.DD_MM_YY_HYPHEN, FormatTypes.DD_MM_YYYY_HYPHEN,
+            FormatTypes.YY_MM_DD_HYPHEN, FormatTypes.YYYY_MM_DD_HYPHEN,
+            FormatTypes.MMMM_DD_YYYY
+    };
+    /**
+     * The month names typed for the MMM formats, with the wrong case and an unknown name
+     */
+    private static final String[] MONTH_NAMES = {
+            "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec", "jan", "FEB", "Xyz"
+    };
+    /**
+     * The minimum year compared
+     */
+    private static final int MIN_YEAR = 1860;
+    /**
+     * The number of the random strings parsed per format
+     */
+    private static final int SAMPLES = 50000;
+
+    @Test
+    public void parse_matchesSimpleDateFormat() {
+        Random random = new Random(7);
+        for(DateFormat format : FORMATS) {
+            DateInputValidator validator = new DateInputValidator(format, false);
+            SimpleDateFormat simpleDateFormat = newSimpleDateFormat(format);
+            for(int sample = 0; sample < SAMPLES; sample++) {
+                String value = nextValue(random, format.format());
+                Date date = parse(simpleDateFormat, value);
+                if(null != date && yearOf(date) < MIN_YEAR) {
+                    continue;
+                }
+                int expected = null == date ? DateInputValidator.INVALID_DATE : EpochDays.ofDate(date);
+                assertEquals(format.format() + " parsing '" + value + "'", expected, validator.parse(value));
+            }
+        }
+    }
+
+    @Test
+    public void format_matchesSimpleDateFormat() {
+        for(DateFormat format : FORMATS) {
+            DateInputValidator validator = new DateInputValidator(format, false);
+            SimpleDateFormat simpleDateFormat = newSimpleDateFormat(format);
+            boolean fullYear = format.format().contains("yyyy");
+            int minEpochDay = EpochDays.of(MIN_YEAR, 1, 1);
+            for(int epochDay = minEpochDay; epochDay < 40000; epochDay += 7) {
+                String value = validator.format(epochDay);
+                assertEquals(format.format() + " formatting " + epochDay,
+                        simpleDateFormat.format(new Date(EpochDays.toMillis(epochDay))), value);
+                if(fullYear) {
+                    assertEquals(format.format() + " parsing '" + value + "'", epochDay, validator.parse(value));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a strict SimpleDateFormat of the pattern of the format in Locale.US
+     * @param format the date format
+     * @return SimpleDateFormat - the formatter
+     */
+    private static SimpleDateFormat newSimpleDateFormat(DateFormat format) {
+        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format.format(), Locale.US);
+        simpleDateFormat.setLenient(false);
+        return simpleDateFormat;
+    }
+
+    /**
+     * Returns a random value of the width of the pattern, with the digits biased towards the valid dates
+     * @param random the random source
+     * @param pattern the pattern of the format
+     * @return String - the value
+     */
+    private static String nextValue(Random random, String pattern) {
+        StringBuilder builder = new StringBuilder(pattern.length());
+        for(int index = 0; index < pattern.length(); index++) {
+            char c = pattern.charAt(index);
+            if(pattern.startsWith("MMM", index)) {
+                builder.append(MONTH_NAMES[random.nextInt(MONTH_NAMES.length)]);
+                index += 2;
+            } else if('d' == c || 'M' == c || 'y' == c) {
+                builder.append((char) ('0' + (random.nextInt(10) < 3 ? random.nextInt(4) : random.nextInt(10))));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Parses the value with the SimpleDateFormat, without throwing
+     * @param simpleDateFormat the formatter
+     * @param value the value to parse
+     * @return Date - the date or null if not a valid date
+     */
+    private static Date parse(SimpleDateFormat simpleDateFormat, String value) {
+        try {
+            return simpleDateFormat.parse(value);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the year of the date in the default time zone
+     * @param date the date
+     * @return int - the year
+     */
+    private static int yearOf(Date date) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        return calendar.get(Calendar.YEAR);
+    }
+}
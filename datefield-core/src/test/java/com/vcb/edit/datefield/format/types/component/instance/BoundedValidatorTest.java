@@ -0,0 +1,96 @@
+package com.vcb.edit.datefield.format.types.component.instance;
+
+import com.vcb.edit.datefield.format.DateFormat;
+import com.vcb.edit.datefield.format.DateFormatFactory;
+import com.vcb.edit.datefield.format.FormatTypes;
+import com.vcb.edit.datefield.format.types.component.contract.Validator;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the bounds of the BoundedValidator and of the validators of the day, month and year.
+ */
+public class BoundedValidatorTest {
+
+    @Test
+    public void boundedValidator_acceptsFromMinToMax() {
+        BoundedValidator validator = new BoundedValidator(5, 10);
+        assertEquals(5, validator.getMinValue());
+        assertEquals(10, validator.getMaxValue());
+        assertFalse(validator.isValid(4));
+        assertTrue(validator.isValid(5));
+        assertTrue(validator.isValid(10));
+        assertFalse(validator.isValid(11));
+        assertFalse(validator.isValid(Integer.MIN_VALUE));
+        assertFalse(validator.isValid(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void dateValidator_acceptsOneTo31() {
+        assertBounds(new DateValidator(), 1, 31);
+    }
+
+    @Test
+    public void monthValidator_acceptsOneTo12() {
+        assertBounds(new MonthValidator(), 1, 12);
+    }
+
+    @Test
+    public void yearValidator_noArgAcceptsAnyYear() {
+        YearValidator validator = new YearValidator();
+        assertTrue(validator.isValid(Integer.MIN_VALUE));
+        assertTrue(validator.isValid(0));
+        assertTrue(validator.isValid(YearValidator.MIN_YEAR - 1));
+        assertTrue(validator.isValid(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void yearValidator_acceptsTheGivenYears() {
+        assertBounds(new YearValidator(0, 99), 0, 99);
+        assertBounds(new YearValidator(YearValidator.MIN_YEAR, 9999), YearValidator.MIN_YEAR, 9999);
+    }
+
+    @Test
+    public void builtInFourDigitYears_startFromMinYear() {
+        DateFormat[] formats = {
+                FormatTypes.DD_MM_YYYY_SLASH, FormatTypes.DD_MM_YYYY_HYPHEN,
+                FormatTypes.YYYY_MM_DD_SLASH, FormatTypes.YYYY_MM_DD_HYPHEN,
+                FormatTypes.MMMM_DD_YYYY, DateFormatFactory.get("dd.MM.yyyy")
+        };
+        for(DateFormat format : formats) {
+            Validator validator = format.components().get(Calendar.YEAR).validator();
+            assertFalse(format.format(), validator.isValid(YearValidator.MIN_YEAR - 1));
+            assertTrue(format.format(), validator.isValid(YearValidator.MIN_YEAR));
+            assertTrue(format.format(), validator.isValid(9999));
+        }
+    }
+
+    @Test
+    public void builtInTwoDigitYears_areZeroTo99() {
+        DateFormat[] formats = {
+                FormatTypes.DD_MM_YY_SLASH, FormatTypes.DD_MM_YY_HYPHEN,
+                FormatTypes.YY_MM_DD_SLASH, FormatTypes.YY_MM_DD_HYPHEN, DateFormatFactory.get("dd.MM.yy")
+        };
+        for(DateFormat format : formats) {
+            assertBounds(format.components().get(Calendar.YEAR).validator(), 0, 99);
+        }
+    }
+
+    /**
+     * Asserts that the validator accepts the values from min to max and rejects the values around them
+     * @param validator the validator
+     * @param min the minimum valid value
+     * @param max the maximum valid value
+     */
+    private static void assertBounds(Validator validator, int min, int max) {
+        assertFalse(validator.isValid(min - 1));
+        for(int value = min; value <= max; value++) {
+            assertTrue(String.valueOf(value), validator.isValid(value));
+        }
+        assertFalse(validator.isValid(max + 1));
+    }
+}
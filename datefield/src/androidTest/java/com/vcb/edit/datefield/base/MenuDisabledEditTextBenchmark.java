@@ -0,0 +1,129 @@
+package com.vcb.edit.datefield.base;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.util.Log;
+import android.view.KeyEvent;
+import android.view.View;
+
+import androidx.appcompat.widget.AppCompatEditText;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Benchmark of the per frame overhead of the paste guard of MenuDisabledEditText.
+ * A frame is a measure, layout and draw of the view, which is where the framework
+ * queries the selection. The guard is compared with the stack walk it replaced.
+ * The times are logged, and the behaviour of the guard is asserted.
+ */
+@RunWith(AndroidJUnit4.class)
+public class MenuDisabledEditTextBenchmark {
+    private static final String TAG = "PasteGuardBenchmark";
+    private static final int WARM_UP_FRAMES = 50;
+    private static final int FRAMES = 500;
+    private static final int SELECTION = 3;
+
+    @Test
+    public void guardOverheadPerFrame() {
+        final long[] nanosPerFrame = new long[2];
+        final int[] selectionStart = new int[1];
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+                MenuDisabledEditText view = new MenuDisabledEditText(context);
+                nanosPerFrame[0] = measureFrames(view);
+                nanosPerFrame[1] = measureFrames(new StackWalkEditText(context));
+                selectionStart[0] = view.getSelectionStart();
+            }
+        });
+        /** The times are only logged, as they vary across the devices. */
+        Log.d(TAG, "Paste guard: " + nanosPerFrame[0] + " ns/frame, stack walk: " + nanosPerFrame[1] + " ns/frame");
+        assertEquals("The selection should be reported as it is outside a paste query", SELECTION, selectionStart[0]);
+    }
+
+    @Test
+    public void pasteShortcutDisabled_otherShortcutsHandled() {
+        final boolean[] handled = new boolean[3];
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+                MenuDisabledEditText view = new MenuDisabledEditText(context);
+                view.setText("12/12/2021");
+                view.setSelection(0, view.length());
+                handled[0] = view.onKeyShortcut(KeyEvent.KEYCODE_V, ctrl(KeyEvent.KEYCODE_V, 0));
+                handled[1] = view.onKeyShortcut(KeyEvent.KEYCODE_V, ctrl(KeyEvent.KEYCODE_V, KeyEvent.META_SHIFT_ON));
+                handled[2] = view.onKeyShortcut(KeyEvent.KEYCODE_A, ctrl(KeyEvent.KEYCODE_A, 0));
+            }
+        });
+        assertFalse("Ctrl+V should not be handled", handled[0]);
+        assertFalse("Ctrl+Shift+V should not be handled", handled[1]);
+        assertTrue("Ctrl+A should be handled", handled[2]);
+    }
+
+    /**
+     * Returns the key down event of the key with Ctrl
+     * @param keyCode the key code
+     * @param metaState the other meta keys pressed
+     * @return KeyEvent - the key event
+     */
+    private static KeyEvent ctrl(int keyCode, int metaState) {
+        return new KeyEvent(0, 0, KeyEvent.ACTION_DOWN, keyCode, 0, KeyEvent.META_CTRL_ON | metaState);
+    }
+
+    /**
+     * Runs the frames on the view and returns the average time of a frame
+     * @param view the view
+     * @return long - nanoseconds per frame
+     */
+    private static long measureFrames(AppCompatEditText view) {
+        view.setText("12/12/2021");
+        view.setSelection(SELECTION);
+        int widthSpec = View.MeasureSpec.makeMeasureSpec(600, View.MeasureSpec.EXACTLY);
+        int heightSpec = View.MeasureSpec.makeMeasureSpec(200, View.MeasureSpec.AT_MOST);
+        Canvas canvas = new Canvas(Bitmap.createBitmap(600, 200, Bitmap.Config.ARGB_8888));
+        for(int i = 0; i < WARM_UP_FRAMES; i++) {
+            frame(view, widthSpec, heightSpec, canvas);
+        }
+        long start = System.nanoTime();
+        for(int i = 0; i < FRAMES; i++) {
+            frame(view, widthSpec, heightSpec, canvas);
+        }
+        return (System.nanoTime() - start) / FRAMES;
+    }
+
+    private static void frame(View view, int widthSpec, int heightSpec, Canvas canvas) {
+        view.forceLayout();
+        view.measure(widthSpec, heightSpec);
+        view.layout(0, 0, view.getMeasuredWidth(), view.getMeasuredHeight());
+        view.draw(canvas);
+    }
+
+    /**
+     * The selection check that was used before the paste guard
+     */
+    private static class StackWalkEditText extends AppCompatEditText {
+        StackWalkEditText(Context context) {
+            super(context);
+        }
+
+        @Override
+        public int getSelectionStart() {
+            for(StackTraceElement element : Thread.currentThread().getStackTrace()) {
+                if(null != element && element.getMethodName().equals("canPaste")) {
+                    return -1;
+                }
+            }
+            return super.getSelectionStart();
+        }
+    }
+}
@@ -1,36 +1,51 @@
 package com.vcb.edit.datefield;
 
 import android.content.Context;
+import android.content.res.Configuration;
 import android.content.res.TypedArray;
-import android.os.Build;
 import android.text.Editable;
 import android.text.InputFilter;
 import android.text.TextWatcher;
 import android.text.method.KeyListener;
 import android.util.AttributeSet;
 import android.util.Log;
+import android.view.inputmethod.BaseInputConnection;
+import android.view.inputmethod.EditorInfo;
+import android.view.inputmethod.InputConnection;
 
 import com.vcb.edit.datefield.base.MenuDisabledEditText;
 import com.vcb.edit.datefield.constants.StatusType;
-import com.vcb.edit.datefield.exceptions.DateFieldException;
-import com.vcb.edit.datefield.exceptions.DateFieldInvalidArgumentException;
+import com.vcb.edit.datefield.exceptions.ExceptionCreator;
 import com.vcb.edit.datefield.format.DateFormat;
 import com.vcb.edit.datefield.format.FormatTypes;
+import com.vcb.edit.datefield.format.LazyDateFormat;
+import com.vcb.edit.datefield.format.calendar.EpochDays;
+import com.vcb.edit.datefield.format.engine.DateRangeMask;
+import com.vcb.edit.datefield.format.engine.FormatCompiler;
+import com.vcb.edit.datefield.format.engine.KeystrokeEngine;
 import com.vcb.edit.datefield.format.formatter.DateFormatter;
+import com.vcb.edit.datefield.format.month.MonthNameMatcher;
+import com.vcb.edit.datefield.format.month.MonthSymbols;
 import com.vcb.edit.datefield.format.types.component.contract.Component;
 import com.vcb.edit.datefield.format.types.component.contract.Index;
+import com.vcb.edit.datefield.format.types.variants.BaseMMMDD;
 import com.vcb.edit.datefield.listener.DateFieldKeyListener;
 import com.vcb.edit.datefield.listener.DateInputListener;
+import com.vcb.edit.datefield.metrics.InputMetrics;
+import com.vcb.edit.datefield.metrics.InputMetricsSnapshot;
+import com.vcb.edit.datefield.validation.DateInputValidator;
+import com.vcb.edit.datefield.validation.ValidationSnapshot;
 
-import java.lang.reflect.Field;
 import java.text.ParseException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -71,21 +86,98 @@ public class DateField extends MenuDisabledEditText {
      * ON_INPUT             - While making the input - Like on the text change
      * ON_FINISHED_INPUT    - Will notify listeners after the input is finished
      */
-    private enum ValidationMode {
+    public enum ValidationMode {
         ON_CALL,
         ON_INPUT,
         ON_FINISHED_INPUT
     }
+    /**
+     * Class that holds the notification policy of the view.
+     * This is used to decide when the listeners are notified about the input validity.
+     * Policies are
+     * IMMEDIATE            - Notifies the listeners every time the input is validated
+     * DISTINCT             - Notifies the listeners right away only if the text or the status type is changed
+     *                        from the last notification
+     * PER_FRAME            - Notifies the listeners once on the next animation frame for the validations
+     *                        till then, if the text or the status type is changed
+     * DEBOUNCE             - Notifies the listeners once when there is no validation for the debounce time,
+     *                        if the text or the status type is changed
+     */
+    public enum NotificationPolicy {
+        IMMEDIATE,
+        DISTINCT,
+        PER_FRAME,
+        DEBOUNCE
+    }
+    /**
+     * Class that holds the formatting mode of the view.
+     * Modes are
+     * INPUT_FILTER         - The typed characters are formatted by an InputFilter before they are committed.
+     *                        The text watcher formats only the changes the filter cannot do.
+     * TEXT_WATCHER         - The typed characters are committed and then formatted by the text watcher
+     */
+    public enum FormattingMode {
+        INPUT_FILTER,
+        TEXT_WATCHER
+    }
+    /** The default debounce time of the notifications in milliseconds. */
+    public static final long DEFAULT_NOTIFICATION_DEBOUNCE_MILLIS = 150;
     /** The invalid int value. */
     private static final int INVALID_INT = -1;
     /** Default style attribute. */
     private static final int VOID_DEF_STYLE_ATTR = -11;
     /** Number of maximum lines supported for the view. */
     private static final int MAX_LINE = 1;
+    /** The epoch day used when there is no minimum date. */
+    public static final int NO_MIN_DATE = DateInputValidator.NO_MIN_DATE;
+    /** The epoch day used when there is no maximum date. */
+    public static final int NO_MAX_DATE = DateInputValidator.NO_MAX_DATE;
     /** The current date format of the view. */
     private DateFormat dateFormat;
+    /** The default locale of the month names of the current date format. */
+    private Locale locale = Locale.getDefault();
+    /** The validator for the current format, lenient mode and range. Created when first used. */
+    private DateInputValidator inputValidator;
+    /** The keystroke engine for the current date format. Null if the format cannot be compiled. */
+    private KeystrokeEngine keystrokeEngine;
+    /** The buffer for the keystroke engine. */
+    private char[] keystrokeBuffer;
+    /** The filter that formats the typed characters of the current date format. */
+    private DateFormatInputFilter formatInputFilter;
+    /** The filter for the max length of the current date format. */
+    private InputLengthFilter lengthFilter;
+    /** The filters set to the view other than the filters of the view itself. Null if none. */
+    private InputFilter[] userFilters;
+    /** The filters last set to the view, to set the filters again only when one of them is changed. */
+    private InputFilter[] appliedFilters;
+    /** The max lines last set to the view. Not initialized, as it is set from the constructor of TextView. */
+    private int appliedMaxLines;
+    /** The pattern of the date format shown as the hint or null if the hint is not set by the view. */
+    private String hintPattern;
+    /** The formatting mode of the view. */
+    private FormattingMode formattingMode = FormattingMode.INPUT_FILTER;
+    /** The depth of the input batches of the keyboard. The input is formatted once when it ends. */
+    private int inputBatchDepth;
+    /** The text when the input batch started, or when it was last formatted. Null if no batch is pending. */
+    private String inputBatchText;
+    /** The time the input batch started. Used only when the input metrics are enabled. */
+    private long inputBatchStartNanos;
+    /** Whether the input batch has composing text or a multi character commit, so the format filter waits for its end. */
+    private boolean inputBatchDeferred;
+    /** Whether all the changes of the input batch are formatted by the format filter. */
+    private boolean inputBatchFiltered;
+    /** The revision of the text. Changed on every change of the text. */
+    private int textRevision;
+    /** The validation result of the last validated text. */
+    private ValidationSnapshot validationSnapshot;
     /** The text watcher for handling the input. */
     private TextWatcher textWatcher;
+    /** The text watchers added to the view, called through the relay watcher. Created on first use. */
+    private List<TextWatcher> userTextWatchers;
+    /** The text before the keystroke whose changes are held back from the added text watchers. Null if none. */
+    private String heldBackText;
+    /** The depth of the nested text changes seen by the relay watcher. */
+    private int relayDepth;
     /** Boolean that handles default hint visibility. Default hint is date format of this field. */
     private boolean showDateFormatAsHint;
     /** The current text edit mode of the view.
@@ -94,10 +186,28 @@ public class DateField extends MenuDisabledEditText {
     /** The current validation mode of the view.
      * This is used to validate and notify the date set listeners about the validity of the date. */
     private ValidationMode validationMode = ValidationMode.ON_FINISHED_INPUT;
-    /** The minimum date of the date range. */
-    private Date minDate;
-    /** The maximum date of the date range. */
-    private Date maxDate;
+    /** The notification policy of the listeners. */
+    private NotificationPolicy notificationPolicy = NotificationPolicy.IMMEDIATE;
+    /** The debounce time of the notifications in milliseconds. */
+    private long notificationDebounceMillis = DEFAULT_NOTIFICATION_DEBOUNCE_MILLIS;
+    /** Whether a notification is posted and not yet run. */
+    private boolean notificationPending;
+    /** The executor of the validation and the listeners. Null to run them on the main thread. */
+    private Executor validationExecutor;
+    /** The generation and the last notified text and status type of the notifications. */
+    private final NotificationDispatcher notificationDispatcher = new NotificationDispatcher();
+    /** Runs a posted notification. */
+    private final Runnable notificationRunnable = new Runnable() {
+        @Override
+        public void run() {
+            notificationPending = false;
+            dispatchNotification(true);
+        }
+    };
+    /** The epoch day of the minimum date of the date range. NO_MIN_DATE if not set. */
+    private int minEpochDay = NO_MIN_DATE;
+    /** The epoch day of the maximum date of the date range. NO_MAX_DATE if not set. */
+    private int maxEpochDay = NO_MAX_DATE;
     /** List for listeners. */
     private List<DateInputListener> listeners;
     /**
@@ -108,6 +218,10 @@ public class DateField extends MenuDisabledEditText {
      * @serial
      */
     private boolean lenient = true;
+    /** The formatter for the current lenient value. */
+    private DateFormatter dateFormatter;
+    /** The input metrics of the view. Null if the metrics are not enabled. */
+    private InputMetrics inputMetrics;
 
     /**
      * Constructor
@@ -170,12 +284,10 @@ public class DateField extends MenuDisabledEditText {
         if(VOID_DEF_STYLE_ATTR != defStyleAttr) {
             getStyle(defStyleAttr);
         }
-        addTextChangedListener(getTextWatcher());
-        setMaxLines(MAX_LINE);
-        setMaxLength();
-        setViewHint();
-        setViewInputType();
-        setViewKeyListener();
+        super.addTextChangedListener(getTextWatcher());
+        super.addTextChangedListener(getRelayTextWatcher());
+        /** Applies again only the properties changed by the attributes after the date format is set. */
+        applyViewState();
     }
 
     /**
@@ -188,6 +300,10 @@ public class DateField extends MenuDisabledEditText {
             array = getContext().getTheme().obtainStyledAttributes(attrs, R.styleable.DateField, 0, 0);
             setLenient(array.getBoolean(R.styleable.DateField_lenient, true));
             setDateFormatAsHint(array.getBoolean(R.styleable.DateField_showDateFormatAsHint, false));
+            String pattern = array.getString(R.styleable.DateField_dateFormat);
+            if(null != pattern) {
+                setDateFormat(pattern);
+            }
         } catch(Exception ex) {
             ex.printStackTrace();
         } finally {
@@ -235,16 +351,70 @@ public class DateField extends MenuDisabledEditText {
      */
     public void setLenient(boolean lenient) {
         this.lenient = lenient;
+        invalidateInputValidator();
+    }
+
+    /**
+     * Enables or disables the recording of the input metrics.
+     * When enabled, the latency of each keystroke and of its formatting, validation and listener
+     * dispatch is recorded with the text rewrites of the keystrokes. Disabling clears the metrics.
+     * @param enabled enable or not
+     */
+    public void setInputMetricsEnabled(boolean enabled) {
+        if(!enabled) {
+            inputMetrics = null;
+        } else if(null == inputMetrics) {
+            inputMetrics = new InputMetrics();
+        }
+    }
+
+    /**
+     * Returns whether the input metrics are recorded
+     * @return boolean - enabled or not
+     */
+    public boolean isInputMetricsEnabled() {
+        return null != inputMetrics;
+    }
+
+    /**
+     * Returns a snapshot of the input metrics recorded so far
+     * @return InputMetricsSnapshot - the snapshot or null if the metrics are not enabled
+     */
+    public @Nullable InputMetricsSnapshot getInputMetricsSnapshot() {
+        return null == inputMetrics ? null : inputMetrics.snapshot();
+    }
+
+    /**
+     * Clears the input metrics recorded so far
+     */
+    public void resetInputMetrics() {
+        if(null != inputMetrics) {
+            inputMetrics.reset();
+        }
     }
 
+    /**
+     * Adds a text watcher to the view.
+     * The watcher is called after the view formats the text, and sees a keystroke and its formatting
+     * as one change, from the text before the keystroke to the formatted text.
+     * @param watcher the text watcher
+     */
     @Override
     public void addTextChangedListener(TextWatcher watcher) {
-        super.addTextChangedListener(watcher);
+        if(null == watcher) {
+            return;
+        }
+        if(null == userTextWatchers) {
+            userTextWatchers = new CopyOnWriteArrayList<>();
+        }
+        userTextWatchers.add(watcher);
     }
 
     @Override
     public void removeTextChangedListener(TextWatcher watcher) {
-        super.removeTextChangedListener(watcher);
+        if(null != userTextWatchers) {
+            userTextWatchers.remove(watcher);
+        }
     }
 
     @Override
@@ -254,6 +424,7 @@ public class DateField extends MenuDisabledEditText {
             return;
         }
         super.setMaxLines(maxLines);
+        appliedMaxLines = maxLines;
     }
 
     /**
@@ -281,11 +452,18 @@ public class DateField extends MenuDisabledEditText {
             return;
         }
         if(showDateFormatAsHint()) {
-            setHint(getDateFormat().format().toLowerCase(Locale.US));
-        } else if (isHintSameAsDateFormat()) {
+            String pattern = getDateFormat().format();
+            if(!pattern.equals(hintPattern) || !isHintSameAs(pattern)) {
+                setHint(pattern.toLowerCase(Locale.US));
+                hintPattern = pattern;
+            }
+        } else if (null != hintPattern) {
             /** If hint is something else set by user other than the default one, do not change it.
              * Also the below method will clears if the function setDateFormatAsHint() is called. */
-            setHint("");
+            if(isHintSameAs(hintPattern)) {
+                setHint("");
+            }
+            hintPattern = null;
         }
     }
 
@@ -298,13 +476,12 @@ public class DateField extends MenuDisabledEditText {
     }
 
     /**
-     * Returns whether the hint showing is same as date format of the DateField
+     * Returns whether the hint showing is same as the pattern of a date format, ignoring the case
+     * @param pattern the pattern of the date format
      * @return is hint same or not.
      */
-    private boolean isHintSameAsDateFormat() {
-        return null != getHint()
-                && !isDateFormatNull()
-                && getHint().toString().equals(getDateFormat().format());
+    private boolean isHintSameAs(String pattern) {
+        return null != getHint() && getHint().toString().equalsIgnoreCase(pattern);
     }
 
     /**
@@ -335,7 +512,10 @@ public class DateField extends MenuDisabledEditText {
                             "dateFormat of the DateField.java. Which is " + getDateFormatLength());
             return;
         }
-        setFilters(new InputFilter[] { new InputLengthFilter(maxLength) });
+        if(null == lengthFilter || maxLength != lengthFilter.getMaxLength()) {
+            lengthFilter = new InputLengthFilter(maxLength);
+        }
+        applyFilters();
     }
 
 //    @Override
@@ -358,71 +538,128 @@ public class DateField extends MenuDisabledEditText {
 
     @Override
     public void setFilters(InputFilter[] filters) {
-        try {
-            List<InputFilter> filteredList = new ArrayList<>();
-            if(null != filters) {
-                for(InputFilter filter : filters) {
-                    /** Checks whether the length filter applied is not equal to length of current date format.
-                     * If the date format is null or empty, the filter will permitted to set. */
-                    if(filter instanceof InputFilter.LengthFilter
-                            && !(filter instanceof InputLengthFilter)
-                            && null != getDateFormat()
-                            && null != getDateFormat().format()) {
-                        if(getDateFormatLength() != getMaxLengthOfFilter((InputFilter.LengthFilter) filter)) {
-                            /** Not setting length filters other than the valid case. */
-                            System.out.println("Omitting filter -> " + filter.toString() + "setting the max length or min length other than the permitted value.");
-                            continue;
-                        }
-                    }
-                    filteredList.add(filter);
-//                    if(filter instanceof InputFilter.LengthFilter && !(filter instanceof InputLengthFilter)) {
-//                        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
-//                            if(!isDateFormatNull() && getDateFormatLength() != ((InputFilter.LengthFilter) filter).getMax()) {
-//                                /** Not setting length filters other than the valid class. */
-//                                System.out.println("Omitting filter -> " + filter.toString() + "setting the max length or min length as it is prohibited from setting out side the library.");
-//                                continue;
-//                            }
-//                        }
-//                    }
-//                    filteredList.add(filter);
-                }
+        /** Called from the constructor of TextView before the date format is set. */
+        if(null == getDateFormat() || null == getDateFormat().format()) {
+            super.setFilters(filters);
+            return;
+        }
+        userFilters = getUserFilters(filters);
+        applyFilters();
+    }
+
+    /**
+     * Returns the filters other than the filters of the view itself.
+     * Length filters with a length other than that of the current date format are omitted.
+     * @param filters the filters to set
+     * @return InputFilter[] - the filters or null if none
+     */
+    private InputFilter[] getUserFilters(InputFilter[] filters) {
+        if(null == filters || 0 == filters.length) {
+            return null;
+        }
+        int count = 0;
+        InputFilter[] filteredFilters = new InputFilter[filters.length];
+        for(InputFilter filter : filters) {
+            if(null == filter || filter instanceof InputLengthFilter || filter instanceof DateFormatInputFilter) {
+                continue;
             }
-            if(!filteredList.isEmpty()) {
-                filters = filteredList.toArray(new InputFilter[0]);
+            /** Checks whether the length filter applied is not equal to length of current date format. */
+            if(filter instanceof InputFilter.LengthFilter
+                    && getDateFormatLength() != InputLengthFilter.getMaxLengthOf((InputFilter.LengthFilter) filter)) {
+                /** Not setting length filters other than the valid case. */
+                Log.w("Date Field", "Omitting filter -> " + filter + " setting the max length or min length other than the permitted value.");
+                continue;
             }
-            super.setFilters(filters);
-        } catch (Exception ex) {
-            super.setFilters(filters);
+            filteredFilters[count++] = filter;
+        }
+        if(0 == count) {
+            return null;
         }
+        return count == filters.length ? filteredFilters : Arrays.copyOf(filteredFilters, count);
     }
 
     /**
-     * Returns the max length of the filter of type InputFilter.LengthFilter
-     * @param filter the instance of InputFilter.LengthFilter
-     * @return the max length or INVALID_INT
+     * Sets the filters of the view, which are the format filter, the length filter and the user filters in order.
+     * The array is built only when one of them is changed.
      */
-    private int getMaxLengthOfFilter(InputFilter.LengthFilter filter) {
-        int maxLength = INVALID_INT;
-        try {
-            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
-                maxLength = filter.getMax();
-            } else {
-                /** Using reflection to access the value of private variable mMax */
-                Field field = filter.getClass().getDeclaredField("mMax");
-                field.setAccessible(true);
-                maxLength = (int) field.get(filter);
+    private void applyFilters() {
+        boolean formatting = FormattingMode.INPUT_FILTER == formattingMode && null != formatInputFilter;
+        int size = (formatting ? 1 : 0) + (null != lengthFilter ? 1 : 0) + (null != userFilters ? userFilters.length : 0);
+        if(isFiltersApplied(formatting, size)) {
+            /** Setting the same filters again sets the text again and lays out the view. */
+            return;
+        }
+        InputFilter[] filters = new InputFilter[size];
+        int index = 0;
+        if(formatting) {
+            filters[index++] = formatInputFilter;
+        }
+        if(null != lengthFilter) {
+            filters[index++] = lengthFilter;
+        }
+        if(null != userFilters) {
+            System.arraycopy(userFilters, 0, filters, index, userFilters.length);
+        }
+        super.setFilters(filters);
+        appliedFilters = filters;
+    }
+
+    /**
+     * Checks whether the filters last set to the view are the current filters in order
+     * @param formatting whether the format filter is applied
+     * @param size the number of filters
+     * @return boolean - applied or not
+     */
+    private boolean isFiltersApplied(boolean formatting, int size) {
+        InputFilter[] applied = appliedFilters;
+        if(null == applied || size != applied.length) {
+            return false;
+        }
+        int index = 0;
+        if(formatting && applied[index++] != formatInputFilter) {
+            return false;
+        }
+        if(null != lengthFilter && applied[index++] != lengthFilter) {
+            return false;
+        }
+        if(null != userFilters) {
+            for(InputFilter filter : userFilters) {
+                if(applied[index++] != filter) {
+                    return false;
+                }
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
-        return maxLength;
+        return true;
+    }
+
+    /**
+     * Returns the formatting mode of the view
+     * @return FormattingMode - the formatting mode
+     */
+    public FormattingMode getFormattingMode() {
+        return formattingMode;
+    }
+
+    /**
+     * Sets the formatting mode of the view
+     * @param formattingMode the formatting mode
+     */
+    public void setFormattingMode(@NonNull FormattingMode formattingMode) {
+        if(this.formattingMode == formattingMode) {
+            return;
+        }
+        this.formattingMode = formattingMode;
+        applyFilters();
     }
 
     /**
      * Sets the input type of the view
      */
     private void setViewInputType() {
-        setInputType(getDateFormat().inputType());
+        /** Setting the input type restarts the input of the keyboard, so it is set only when changed. */
+        if(getDateFormat().inputType() != getInputType()) {
+            setInputType(getDateFormat().inputType());
+        }
     }
 
     @Override
@@ -433,14 +670,6 @@ public class DateField extends MenuDisabledEditText {
         }
     }
 
-    /**
-     * Sets the key listener of the view
-     */
-    private void setViewKeyListener() {
-        /** Need to set based on different format. If we provide formats like Jun, 13 2021. */
-        setKeyListener(DateFieldKeyListener.getInstance("0123456789"));
-    }
-
     @Override
     public void setKeyListener(KeyListener input) {
         /** Avoiding other key listeners try to set from code. Only allows this package class. */
@@ -467,7 +696,8 @@ public class DateField extends MenuDisabledEditText {
      */
     private List<DateInputListener> getListeners() {
         if(null == listeners) {
-            listeners = new ArrayList<>();
+            /** Copied on change, as the listeners can be notified on the validation executor. */
+            listeners = new CopyOnWriteArrayList<>();
         }
         return listeners;
     }
@@ -493,19 +723,75 @@ public class DateField extends MenuDisabledEditText {
     }
 
     /**
-     * Returns the min date of the view
-     * @return  instance of java.util.Date - the min date of the view
+     * Returns the min date of the view.
+     * The date is at the start of the day of the min date.
+     * @return  instance of java.util.Date - the min date of the view or null if not set
      */
     public Date getMinDate() {
-        return minDate;
+        return NO_MIN_DATE == minEpochDay ? null : EpochDays.toDate(minEpochDay);
     }
 
     /**
-     * Returns the max date of the view
-     * @return instance of java.util.Date - the max date of the view
+     * Returns the max date of the view.
+     * The date is at the start of the day of the max date.
+     * @return instance of java.util.Date - the max date of the view or null if not set
      */
     public Date getMaxDate() {
-        return maxDate;
+        return NO_MAX_DATE == maxEpochDay ? null : EpochDays.toDate(maxEpochDay);
+    }
+
+    /**
+     * Returns the min date of the view as epoch day. ie, days since 1970-01-01.
+     * @return int - the min date of the view or NO_MIN_DATE if not set
+     */
+    public int getMinEpochDay() {
+        return minEpochDay;
+    }
+
+    /**
+     * Returns the max date of the view as epoch day. ie, days since 1970-01-01.
+     * @return int - the max date of the view or NO_MAX_DATE if not set
+     */
+    public int getMaxEpochDay() {
+        return maxEpochDay;
+    }
+
+    /**
+     * Returns the milliseconds at the start of the day of the min date of the view
+     * @return long - the min date of the view or 0 if not set
+     */
+    public long getMinDateInMillis() {
+        return NO_MIN_DATE == minEpochDay ? 0 : EpochDays.toMillis(minEpochDay);
+    }
+
+    /**
+     * Returns the milliseconds at the start of the day of the max date of the view
+     * @return long - the max date of the view or 0 if not set
+     */
+    public long getMaxDateInMillis() {
+        return NO_MAX_DATE == maxEpochDay ? 0 : EpochDays.toMillis(maxEpochDay);
+    }
+
+    /**
+     * Sets the minimum date for the selectable date range as epoch day. ie, days since 1970-01-01.
+     * View state will be invalidated due to change in the range.
+     * @param epochDay the minimum date of the view or NO_MIN_DATE to clear
+     */
+    public void setMinEpochDay(int epochDay) {
+        this.minEpochDay = epochDay;
+        invalidateInputValidator();
+        invalidateState();
+    }
+
+    /**
+     * Sets the maximum date for the selectable date range as epoch day. ie, days since 1970-01-01.
+     * View state will be invalidated due to change in the range.
+     * @param epochDay the maximum date of the view or NO_MAX_DATE to clear
+     */
+    public void setMaxEpochDay(int epochDay) {
+        this.maxEpochDay = epochDay;
+        invalidateInputValidator();
+        invalidateState();
     }
 
     /**
@@ -514,8 +800,7 @@ public class DateField extends MenuDisabledEditText {
      * @param date the minimum date of the view
      */
     public void setMinDate(Date date) {
-        this.minDate = date;
-        invalidateState();
+        setMinEpochDay(null == date ? NO_MIN_DATE : EpochDays.ofDate(date));
     }
 
     /**
@@ -524,8 +809,7 @@ public class DateField extends MenuDisabledEditText {
      * @param date the maximum date of the view
      */
     public void setMaxDate(Date date) {
-        this.maxDate = date;
-        invalidateState();
+        setMaxEpochDay(null == date ? NO_MAX_DATE : EpochDays.ofDate(date));
     }
 
     /**
@@ -560,11 +844,7 @@ public class DateField extends MenuDisabledEditText {
      * @param milliseconds the minimum date of the view
      */
     public void setMinDate(long milliseconds) {
-        if(milliseconds <= 0) {
-            setMinDate((Date) null);
-            return;
-        }
-        setMinDate(new Date(milliseconds));
+        setMinEpochDay(milliseconds <= 0 ? NO_MIN_DATE : EpochDays.ofMillis(milliseconds));
     }
 
     /**
@@ -573,11 +853,7 @@ public class DateField extends MenuDisabledEditText {
      * @param milliseconds the maximum date of the view
      */
     public void setMaxDate(long milliseconds) {
-        if(milliseconds <= 0) {
-            setMaxDate((Date) null);
-            return;
-        }
-        setMaxDate(new Date(milliseconds));
+        setMaxEpochDay(milliseconds <= 0 ? NO_MAX_DATE : EpochDays.ofMillis(milliseconds));
     }
 
     /**
@@ -586,17 +862,32 @@ public class DateField extends MenuDisabledEditText {
      * @param date the minimum date of the view
      */
     public void setMinDate(String date) {
-        try {
-            if(null == date || date.isEmpty()) {
-                setMinDate((Date) null);
-                return;
-            }
-            setMinDate(parse(date));
-        } catch (ParseException e) {
-            throwInvalidArgumentExceptionWithMessage(
-                    "Please provide a valid string representation of the format "
-                            + getDateFormat().format() + ". Current provided value is " + date);
+        if(StatusType.VALID != trySetMinDate(date)) {
+            throwInvalidArgumentException("Please provide a valid string representation of the format ",
+                    getDateFormat().format(), ". Current provided value is ", date);
+        }
+    }
+
+    /**
+     * Sets the minimum date for the selectable date range, without throwing for an invalid value.
+     * View state will be invalidated due to change in the range.
+     * @param date the minimum date of the view in the date format of the view, or null/ empty to clear.
+     *             A value the format parser does not accept, like "1/1/2020" for dd/MM/yyyy, is parsed
+     *             with the DateFormatter as before
+     * @return StatusType - VALID if the date is set or cleared, INVALID if the value is not a date
+     *          of the format and the range is not changed
+     */
+    public StatusType trySetMinDate(String date) {
+        if(null == date || date.isEmpty()) {
+            setMinEpochDay(NO_MIN_DATE);
+            return StatusType.VALID;
+        }
+        int epochDay = parseRangeDate(date);
+        if(DateInputValidator.INVALID_DATE == epochDay) {
+            return StatusType.INVALID;
         }
+        setMinEpochDay(epochDay);
+        return StatusType.VALID;
     }
 
     /**
@@ -605,16 +896,52 @@ public class DateField extends MenuDisabledEditText {
      * @param date the maximum date of the view
      */
     public void setMaxDate(String date) {
+        if(StatusType.VALID != trySetMaxDate(date)) {
+            throwInvalidArgumentException("Please provide a valid string representation of the format ",
+                    getDateFormat().format(), ". Current provided value is ", date);
+        }
+    }
+
+    /**
+     * Sets the maximum date for the selectable date range, without throwing for an invalid value.
+     * View state will be invalidated due to change in the range.
+     * @param date the maximum date of the view in the date format of the view, or null/ empty to clear.
+     *             A value the format parser does not accept, like "1/1/2020" for dd/MM/yyyy, is parsed
+     *             with the DateFormatter as before
+     * @return StatusType - VALID if the date is set or cleared, INVALID if the value is not a date
+     *          of the format and the range is not changed
+     */
+    public StatusType trySetMaxDate(String date) {
+        if(null == date || date.isEmpty()) {
+            setMaxEpochDay(NO_MAX_DATE);
+            return StatusType.VALID;
+        }
+        int epochDay = parseRangeDate(date);
+        if(DateInputValidator.INVALID_DATE == epochDay) {
+            return StatusType.INVALID;
+        }
+        setMaxEpochDay(epochDay);
+        return StatusType.VALID;
+    }
+
+    /**
+     * Parses a date of the range to epoch day, without throwing.
+     * The fixed width parse is tried first. The values it does not accept, like the dates without the
+     * leading zeros, are parsed with the DateFormatter, as the range setters accepted them before.
+     * The date is trimmed first, as in {@link #trySetDate(String)}.
+     * @param date the date in the date format of the view
+     * @return int - the epoch day or DateInputValidator.INVALID_DATE if not a valid date
+     */
+    private int parseRangeDate(String date) {
+        String trimmed = date.trim();
+        int epochDay = tryParse(trimmed);
+        if(DateInputValidator.INVALID_DATE != epochDay) {
+            return epochDay;
+        }
         try {
-            if(null == date || date.isEmpty()) {
-                setMaxDate((Date) null);
-                return;
-            }
-            setMaxDate(parse(date));
-        } catch (ParseException e) {
-            throwInvalidArgumentExceptionWithMessage(
-                    "Please provide a valid string representation of the format "
-                            + getDateFormat().format() + ". Current provided value is " + date);
+            return EpochDays.ofDate(parse(trimmed));
+        } catch (Exception e) {
+            return DateInputValidator.INVALID_DATE;
         }
     }
 
@@ -663,7 +990,16 @@ public class DateField extends MenuDisabledEditText {
      * @param date the minimum date of the view
      */
     public void updateMinDate(Date date) {
-        this.minDate = date;
+        updateMinEpochDay(null == date ? NO_MIN_DATE : EpochDays.ofDate(date));
+    }
+
+    /**
+     * Updates the minimum date as epoch day without invalidating the view state
+     * @param epochDay the minimum date of the view or NO_MIN_DATE to clear
+     */
+    public void updateMinEpochDay(int epochDay) {
+        this.minEpochDay = epochDay;
+        invalidateInputValidator();
     }
 
     /**
@@ -671,7 +1007,16 @@ public class DateField extends MenuDisabledEditText {
      * @param date the maximum date of the view
      */
     public void updateMaxDate(Date date) {
-        this.maxDate = date;
+        updateMaxEpochDay(null == date ? NO_MAX_DATE : EpochDays.ofDate(date));
+    }
+
+    /**
+     * Updates the maximum date as epoch day without invalidating the view state
+     * @param epochDay the maximum date of the view or NO_MAX_DATE to clear
+     */
+    public void updateMaxEpochDay(int epochDay) {
+        this.maxEpochDay = epochDay;
+        invalidateInputValidator();
     }
 
     /**
@@ -699,11 +1044,14 @@ public class DateField extends MenuDisabledEditText {
     }
 
     /**
-     * Returns a new instance of the DateFormatter.java class
-     * @return a new instance of the DateFormatter.java class
+     * Returns the instance of the DateFormatter.java class for the current lenient value
+     * @return the instance of the DateFormatter.java class
      */
     private DateFormatter getDateFormatter() {
-        return new DateFormatter(isLenient());
+        if(null == dateFormatter || dateFormatter.isLenient() != isLenient()) {
+            dateFormatter = new DateFormatter(isLenient());
+        }
+        return dateFormatter;
     }
     /**
      * Parses a given date string to date based on the current date format of the view.
@@ -792,14 +1140,41 @@ public class DateField extends MenuDisabledEditText {
     }
 
     /**
-     * Sets the date format
+     * Sets the date format.
+     * Setting the format in use again does not change the view.
      * @param dateFormat the date format to use
      */
     public void setDateFormat(@NonNull DateFormat dateFormat) {
+        if(this.dateFormat == dateFormat) {
+            return;
+        }
         this.dateFormat = dateFormat;
+        compileDateFormat();
         invalidateState();
     }
 
+    /**
+     * Compiles the current date format for the keystrokes and the validation
+     */
+    private void compileDateFormat() {
+        this.locale = Locale.getDefault();
+        this.keystrokeEngine = FormatCompiler.compile(dateFormat);
+        this.keystrokeBuffer = null == keystrokeEngine ? null : new char[keystrokeEngine.length()];
+        this.formatInputFilter = new DateFormatInputFilter(dateFormat, keystrokeEngine, this);
+        invalidateInputValidator();
+    }
+
+    /**
+     * Sets the date format from a pattern. eg:- dd.MM.yyyy, yyyyMMdd
+     * The formats of FormatTypes and the registered formats are found by their pattern.
+     * The format of any other pattern is created once and reused by all the fields.
+     * @param pattern the pattern of the date format
+     * @see FormatTypes#get(String)
+     */
+    public void setDateFormat(@NonNull String pattern) {
+        setDateFormat(FormatTypes.get(pattern));
+    }
+
 //    /**
 //     * Returns the separator for current selected date format
 //     * @return the separator for format which is now in use
@@ -849,7 +1224,7 @@ public class DateField extends MenuDisabledEditText {
      * @return int - the start index of the field type
      */
     private int getComponentStartIndex(int field) {
-        return getComponentIndex(field).getStart();
+        return getDateFormat().componentTable().startOf(field);
     }
 
     /**
@@ -858,7 +1233,7 @@ public class DateField extends MenuDisabledEditText {
      * @return int - the end index of the field type
      */
     private int getComponentEndIndex(int field) {
-        return getComponentIndex(field).getEnd();
+        return getDateFormat().componentTable().endOf(field);
     }
 
     /**
@@ -875,6 +1250,130 @@ public class DateField extends MenuDisabledEditText {
      */
     private void setTextEditMode(TextEditMode textEditMode) {
         this.textEditMode = textEditMode;
+        updateFormatInputFilter();
+    }
+
+    /**
+     * Enables the format filter for the characters typed, also the single characters committed in an input batch.
+     * The text set from code is not formatted by the filter and the deferred input batches are formatted at the end.
+     */
+    private void updateFormatInputFilter() {
+        if(null != formatInputFilter) {
+            formatInputFilter.setEnabled(TextEditMode.CODE != textEditMode && !inputBatchDeferred);
+        }
+    }
+
+    @Override
+    public InputConnection onCreateInputConnection(EditorInfo outAttrs) {
+        InputConnection connection = super.onCreateInputConnection(outAttrs);
+        return null == connection ? null : new DateInputConnection(connection, this);
+    }
+
+    /**
+     * Starts an input batch of the keyboard.
+     * The text watcher does not act on the changes till the batch ends. The format filter formats
+     * the single characters committed, till the batch is deferred.
+     */
+    void beginInputBatch() {
+        if(0 == inputBatchDepth++) {
+            if(null == inputBatchText) {
+                inputBatchText = getNonNullText();
+                inputBatchFiltered = true;
+            }
+            if(null != inputMetrics) {
+                inputMetrics.beginKeystroke();
+                inputBatchStartNanos = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Defers the formatting of the current input batch to its end, for the composing text and
+     * the multi character commits. The format filter is disabled till the batch is formatted.
+     */
+    void deferInputBatch() {
+        if(inputBatchDepth > 0 && !inputBatchDeferred) {
+            inputBatchDeferred = true;
+            updateFormatInputFilter();
+        }
+    }
+
+    /**
+     * Ends an input batch of the keyboard.
+     * If a change of the batch is not formatted by the format filter, the text added after the text
+     * before the batch is formatted as typed with a single replace. A deletion at the end is kept as it is.
+     * The listeners are notified once, if the text is changed.
+     * While the keyboard is composing the text, the formatting waits for the composing to finish.
+     */
+    void endInputBatch() {
+        if(inputBatchDepth <= 0 || --inputBatchDepth > 0) {
+            return;
+        }
+        Editable editable = getText();
+        if(null != editable && null != getDateFormat() && BaseInputConnection.getComposingSpanStart(editable) >= 0) {
+            endInputBatchKeystroke();
+            return;
+        }
+        String previousText = null == inputBatchText ? "" : inputBatchText;
+        boolean filtered = inputBatchFiltered;
+        inputBatchText = null;
+        inputBatchDeferred = false;
+        updateFormatInputFilter();
+        if(null == editable || null == getDateFormat()) {
+            endInputBatchKeystroke();
+            return;
+        }
+        try {
+            if(!filtered) {
+                long formattingStartNanos = null == inputMetrics ? 0 : System.nanoTime();
+                String formatted = formatInputBatch(previousText, editable.toString());
+                if(null != formatted) {
+                    replaceChangedText(editable, formatted);
+                }
+                if(null != inputMetrics) {
+                    inputMetrics.recordFormatting(System.nanoTime() - formattingStartNanos);
+                }
+            }
+            if(!previousText.equals(editable.toString())
+                    && (ValidationMode.ON_INPUT == validationMode
+                    || (ValidationMode.ON_FINISHED_INPUT == validationMode && getDateFormatLength() == editable.length()))) {
+                notifyListeners();
+            }
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        } finally {
+            endInputBatchKeystroke();
+        }
+    }
+
+    /**
+     * Ends the keystroke of the input batch in the input metrics, if enabled
+     */
+    private void endInputBatchKeystroke() {
+        if(null != inputMetrics) {
+            inputMetrics.endKeystroke(System.nanoTime() - inputBatchStartNanos);
+        }
+    }
+
+    /**
+     * Formats the text of an input batch
+     * @param previousText the text before the batch
+     * @param text the text after the batch
+     * @return String - the formatted text or null if the text is not changed
+     */
+    private String formatInputBatch(String previousText, String text) {
+        int prefix = 0;
+        int commonLength = Math.min(previousText.length(), text.length());
+        while(prefix < commonLength && previousText.charAt(prefix) == text.charAt(prefix)) {
+            prefix++;
+        }
+        if(prefix == text.length()) {
+            return null;
+        }
+        if(null != keystrokeEngine) {
+            return formatWithKeystrokeEngine(text, prefix);
+        }
+        return formatWithDateFormat(text, prefix);
     }
 
     /**
@@ -896,27 +1395,33 @@ public class DateField extends MenuDisabledEditText {
      * @param date the date to set in the view
      */
     public void setDate(String date) {
-        try {
-            if(null == date || date.isEmpty()) {
-                invalidateText();
-                return;
-            }
-            if(getDateFormatLength() != date.trim().length()) {
-                throwInvalidArgumentExceptionWithMessage(
-                        "Cannot set date. Please provide a valid string representation of the format "
-                                + getDateFormat().format() + ". Current provided value is " + date);
-                return;
-            }
-            setDate(parse(date));
-        } catch (ParseException e) {
-            throwInvalidArgumentExceptionWithMessage(
-                    "Cannot set date. Please provide a valid string representation of the format "
-                            + getDateFormat().format() + ". Current provided value is " + date);
-        } catch (Exception e) {
-            throwInvalidArgumentExceptionWithMessage(
-                    "Cannot set date. Please provide a valid string representation of the format "
-                            + getDateFormat().format() + ". Current provided value is " + date);
+        StatusType statusType = trySetDate(date);
+        if(StatusType.INVALID == statusType || StatusType.ERROR == statusType) {
+            throwInvalidArgumentException("Cannot set date. Please provide a valid string representation of the format ",
+                    getDateFormat().format(), ". Current provided value is ", date);
+        }
+    }
+
+    /**
+     * Sets the date to the view, without throwing for an invalid value.
+     * The provided String will be validate against the current date format of the DateField class.
+     * If the String is empty or null .It will clear the text in the view.
+     * A date out of the range is set, as with setDate(String), and its status is returned.
+     * @param date the date to set in the view
+     * @return StatusType - VALID, OUT_OF_MIN_RANGE or OUT_OF_MAX_RANGE if the date is set or cleared,
+     *          INVALID if the value is not a date of the format or ERROR if the date cannot be written
+     *          in the format, and the text is not changed
+     */
+    public StatusType trySetDate(String date) {
+        if(null == date || date.isEmpty()) {
+            invalidateText();
+            return StatusType.VALID;
+        }
+        int epochDay = tryParse(date.trim());
+        if(DateInputValidator.INVALID_DATE == epochDay) {
+            return StatusType.INVALID;
         }
+        return trySetEpochDay(epochDay);
     }
 
     /**
@@ -924,18 +1429,49 @@ public class DateField extends MenuDisabledEditText {
      * @param date the date to set in the view
      */
     public void setDate(Date date) {
+        if(StatusType.ERROR == trySetDate(date)) {
+            /** The Date is mutable, so its value is captured for the lazy message. */
+            throwInvalidArgumentException("Cannot set date. Please provide a valid string representation of the format ",
+                    getDateFormat().format(), ". Current provided value is ", String.valueOf(date));
+        }
+    }
+
+    /**
+     * Sets the date to the view, without throwing.
+     * If the date is null, it will clear the text in the view.
+     * @param date the date to set in the view
+     * @return StatusType - VALID, OUT_OF_MIN_RANGE or OUT_OF_MAX_RANGE if the date is set or cleared,
+     *          ERROR if the date cannot be written in the format and the text is not changed
+     */
+    public StatusType trySetDate(Date date) {
+        if(null == date) {
+            invalidateText();
+            return StatusType.VALID;
+        }
+        return trySetEpochDay(EpochDays.ofDate(date));
+    }
+
+    /**
+     * Sets the date of the epoch day to the view, without throwing
+     * @param epochDay the epoch day of the date
+     * @return StatusType - VALID, OUT_OF_MIN_RANGE or OUT_OF_MAX_RANGE if the date is set,
+     *          ERROR if the date cannot be written in the format and the text is not changed
+     */
+    private StatusType trySetEpochDay(int epochDay) {
+        String dateValue;
         try {
-            if(null == date) {
-                invalidateText();
-                return;
-            }
-            String dateValue = format(date, getDateFormat().format());
-            setTextMutingWatcher(dateValue);
+            dateValue = getInputValidator().format(epochDay);
         } catch (Exception e) {
-            throwInvalidArgumentExceptionWithMessage(
-                    "Cannot set date. Please provide a valid string representation of the format "
-                            + getDateFormat().format() + ". Current provided value is " + date);
+            return StatusType.ERROR;
+        }
+        setTextMutingWatcher(dateValue);
+        if(epochDay < minEpochDay) {
+            return StatusType.OUT_OF_MIN_RANGE;
         }
+        if(epochDay > maxEpochDay) {
+            return StatusType.OUT_OF_MAX_RANGE;
+        }
+        return StatusType.VALID;
     }
 
     /**
@@ -952,15 +1488,17 @@ public class DateField extends MenuDisabledEditText {
 
     /**
      * Sets the date to the view.
+     * The values are lenient as in Calendar.set(), eg:- month 12 is January of the next year.
+     * The date is written with the epoch day of the values, so no Calendar or Date is created
+     * for the fixed width formats.
      * @param year - year of the date to set.
-     * @param month - month of the date to set.
+     * @param month - month of the date to set, from 0 as in Calendar. ie, January is 0.
      * @param day - day of the date to set.
      */
     public void setDate(int year, int month, int day) {
         try {
-            Calendar calendar = Calendar.getInstance();
-            calendar.set(year, month, day);
-            setDate(calendar.getTime());
+            String dateValue = getInputValidator().format(EpochDays.ofLenient(year, month + 1, day));
+            setTextMutingWatcher(dateValue);
         } catch(Exception ex) {
             throwInvalidArgumentExceptionWithMessage(
                     "Cannot set date. Please provide valid year, month, day. Current provided " +
@@ -976,14 +1514,7 @@ public class DateField extends MenuDisabledEditText {
      * @return String - current date entered in the view.
      */
     public String getDateString() {
-        String date = null;
-        try {
-            if(StatusType.VALID == getValidationStatus()) {
-                date = getText().toString().trim();
-            }
-        } catch(Exception ex) {
-        }
-        return date;
+        return getValidationSnapshot().getDateString();
     }
 
     /**
@@ -991,26 +1522,33 @@ public class DateField extends MenuDisabledEditText {
      * @return Date - current date entered in the view.
      */
     public Date getDate() {
-        Date date = null;
-        try {
-            if(StatusType.VALID == getValidationStatus()) {
-                date = parse(getText().toString().trim());
-            }
-        } catch(Exception ex) {
-        }
-        return date;
+        return getValidationSnapshot().getDate();
     }
 
     /**
      * Invalidates the state of the text view due to change in configuration
      */
     private void invalidateState() {
-        invalidateText();
-        setMaxLines(MAX_LINE);
+        if(0 != length()) {
+            invalidateText();
+        }
+        applyViewState();
+    }
+
+    /**
+     * Applies the properties of the view for the current date format.
+     * Each property is set only if it differs from the one applied, as setting a property of the
+     * view lays it out again and the input type restarts the input of the keyboard.
+     */
+    private void applyViewState() {
+        if(MAX_LINE != appliedMaxLines) {
+            setMaxLines(MAX_LINE);
+        }
         setMaxLength();
         setViewHint();
+        /** The key listener is not set, the input type and the format filter decide the characters typed.
+         * A digits key listener would block the letters of the month name formats. */
         setViewInputType();
-        setViewKeyListener();
     }
 
     /**
@@ -1028,6 +1566,9 @@ public class DateField extends MenuDisabledEditText {
      * @param text the text to set
      */
     private void setTextMutingWatcher(String text) {
+        if(null != inputMetrics) {
+            inputMetrics.recordTextRewrite();
+        }
         setTextEditMode(TextEditMode.CODE);
         super.setText(text);
         setTextEditMode(TextEditMode.USER);
@@ -1067,27 +1608,130 @@ public class DateField extends MenuDisabledEditText {
         this.textWatcher = textWatcher;
     }
 
+    /**
+     * Returns the text watcher that calls the text watchers added to the view.
+     * It is added after the text watcher of the view, so it sees a change after it is handled.
+     * The changes of a keystroke typed by the user, including the formatting of the keystroke, are held
+     * back and passed on as one change when the keystroke is done. The other changes are passed on as they come.
+     * @return TextWatcher - the relay text watcher
+     */
+    private TextWatcher getRelayTextWatcher() {
+        return new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+                if(0 == relayDepth++ && TextEditMode.CODE != getTextEditMode() && 0 == inputBatchDepth) {
+                    heldBackText = s.toString();
+                }
+                if(null == heldBackText && null != userTextWatchers) {
+                    for(TextWatcher watcher : userTextWatchers) {
+                        watcher.beforeTextChanged(s, start, count, after);
+                    }
+                }
+            }
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+                if(null == heldBackText && null != userTextWatchers) {
+                    for(TextWatcher watcher : userTextWatchers) {
+                        watcher.onTextChanged(s, start, before, count);
+                    }
+                }
+            }
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                relayDepth = Math.max(0, relayDepth - 1);
+                if(null == heldBackText) {
+                    if(null != userTextWatchers) {
+                        for(TextWatcher watcher : userTextWatchers) {
+                            watcher.afterTextChanged(s);
+                        }
+                    }
+                } else if(0 == relayDepth) {
+                    String previousText = heldBackText;
+                    heldBackText = null;
+                    relayKeystroke(previousText, getText());
+                }
+            }
+        };
+    }
+
+    /**
+     * Passes on the changes of a keystroke to the text watchers added to the view, as one change
+     * of the part after the common prefix of the text before the keystroke and the text now
+     * @param previousText the text before the keystroke
+     * @param text the text now
+     */
+    private void relayKeystroke(String previousText, Editable text) {
+        if(null == userTextWatchers || userTextWatchers.isEmpty() || null == text) {
+            return;
+        }
+        int prefix = 0;
+        int commonLength = Math.min(previousText.length(), text.length());
+        while(prefix < commonLength && previousText.charAt(prefix) == text.charAt(prefix)) {
+            prefix++;
+        }
+        if(prefix == previousText.length() && prefix == text.length()) {
+            return;
+        }
+        int before = previousText.length() - prefix;
+        int count = text.length() - prefix;
+        for(TextWatcher watcher : userTextWatchers) {
+            watcher.beforeTextChanged(previousText, prefix, before, count);
+        }
+        for(TextWatcher watcher : userTextWatchers) {
+            watcher.onTextChanged(text, prefix, before, count);
+        }
+        for(TextWatcher watcher : userTextWatchers) {
+            watcher.afterTextChanged(text);
+        }
+    }
+
     private TextWatcher getTextWatcherInstance() {
-        String currentText;
-        final String[] formattedText = new String[1];
-//        Component component;
-        /** For cache the component value calculated. */
-        final int[] componentValue = new int[1];
         return new TextWatcher() {
+            /** The time the current keystroke started. Used only when the input metrics are enabled. */
+            private long keystrokeStartNanos;
+            /** The formatted text of the current keystroke, applied in afterTextChanged(). Null if not changed. */
+            private String formattedText;
+            /** Whether the current keystroke is handled in onTextChanged() and the listeners are to be notified. */
+            private boolean inputHandled;
+            /** Whether the current keystroke is already formatted by the DateFormatInputFilter. */
+            private boolean inputFiltered;
+
             @Override
             public void beforeTextChanged(CharSequence s, int start, int count, int after) {
                 if(TextEditMode.CODE == getTextEditMode()) {
                     setTextSelectionToEnd();
                     return;
                 }
+                if(inputBatchDepth > 0) {
+                    /** The changes not formatted by the filter are formatted when the input batch ends. */
+                    inputHandled = false;
+                    if(null == formatInputFilter || !formatInputFilter.consumeFiltered()) {
+                        inputBatchFiltered = false;
+                    }
+                    return;
+                }
+                formattedText = null;
+                inputHandled = false;
+                /** The filters run before the text watchers for a change. */
+                inputFiltered = null != formatInputFilter && formatInputFilter.consumeFiltered();
+                if(null != inputMetrics) {
+                    inputMetrics.beginKeystroke();
+                    keystrokeStartNanos = System.nanoTime();
+                }
             }
 
             @Override
             public void onTextChanged(CharSequence s, int start, int before, int count) {
+                textRevision++;
                 if(TextEditMode.CODE == getTextEditMode()) {
                     setTextSelectionToEnd();
                     return;
                 }
+                if(inputBatchDepth > 0) {
+                    return;
+                }
                 try {
                     String currentText = s.toString();
                     /** For clearing the text if, the user edit from in between the text. */
@@ -1095,29 +1739,20 @@ public class DateField extends MenuDisabledEditText {
                         invalidateText();
                         return;
                     }
-                    Log.d("Date Field", " Date Field onTextChanged: s -> " + s + " start -> " + start + " before -> " + before + " count -> " + count + " currentText.length() " + currentText.length());
-
-                    if(count > 0) {
-                        for(Map.Entry<Integer, Component> entry : getDateFormatComponents().entrySet()) {
-                            formattedText[0] = getDateFormat().formatInput(getComponent(entry.getKey()), currentText);
-                            if(null != formattedText[0]) {
-                                currentText = formattedText[0];
-                                setTextMutingWatcher(currentText);
-                                setTextSelectionToEnd();
-                                /** Avoiding
-                                 * 1. breaking out of loop once the component is finished and
-                                 * 2. changing HashMap to LinkedHashMap
-                                 * to handle conditions such as deleting the current text till the
-                                 * separator of a component and adding the text.
-                                 * Eg:- Current text is 12/31/2011. Delete till 12 or 12/31 including the separator.
-                                 * Now add the text to the end should add a separator before adding the current input.*/
-//                                break;
-                            }
-                        }
+                    long formattingStartNanos = null == inputMetrics ? 0 : System.nanoTime();
+                    /** The text is only formatted here. All the changes of the keystroke are applied
+                     * at once in afterTextChanged(), where the Editable can be changed. */
+                    if(count > 0 && inputFiltered) {
+                        formattedText = null;
+                    } else if(count > 0 && null != keystrokeEngine) {
+                        formattedText = formatWithKeystrokeEngine(s, start);
+                    } else if(count > 0) {
+                        formattedText = formatWithDateFormat(currentText, start);
                     }
-                    if(ValidationMode.ON_INPUT == validationMode) {
-                        notifyListeners();
+                    if(null != inputMetrics && count > 0) {
+                        inputMetrics.recordFormatting(System.nanoTime() - formattingStartNanos);
                     }
+                    inputHandled = true;
                 } catch (Exception ex) {
                     ex.printStackTrace();
                 }
@@ -1129,16 +1764,112 @@ public class DateField extends MenuDisabledEditText {
                     setTextSelectionToEnd();
                     return;
                 }
+                if(inputBatchDepth > 0) {
+                    return;
+                }
+                if(inputHandled) {
+                    inputHandled = false;
+                    try {
+                        if(null != formattedText) {
+                            replaceChangedText(s, formattedText);
+                            formattedText = null;
+                        }
+                        if(ValidationMode.ON_INPUT == validationMode) {
+                            notifyListeners();
+                        }
+                    } catch (Exception ex) {
+                        ex.printStackTrace();
+                    }
+                }
                 if(null != s && getDateFormatLength() == s.length()) {
                     // notify listeners about validity
                     if(ValidationMode.ON_FINISHED_INPUT == validationMode) {
                         notifyListeners();
                     }
                 }
+                if(null != inputMetrics) {
+                    inputMetrics.endKeystroke(System.nanoTime() - keystrokeStartNanos);
+                }
             }
         };
     }
 
+    /**
+     * Formats the characters typed from the start index with the keystroke engine
+     * @param text the current text
+     * @param start the index from where the characters are typed
+     * @return String - the formatted text or null if the text is not changed
+     */
+    private String formatWithKeystrokeEngine(CharSequence text, int start) {
+        int length = keystrokeEngine.apply(text, start, keystrokeBuffer, getRangeMask());
+        if(isSameText(text, keystrokeBuffer, length)) {
+            return null;
+        }
+        return new String(keystrokeBuffer, 0, length);
+    }
+
+    /**
+     * Formats the text with the date format, for the formats that cannot be compiled to a keystroke engine
+     * @param text the current text
+     * @param start the index from where the characters are typed
+     * @return String - the formatted text or null if the text is not changed
+     */
+    private String formatWithDateFormat(String text, int start) {
+        String formatted = getDateFormat().formatInput(text);
+        DateRangeMask rangeMask = getRangeMask();
+        if(null != rangeMask && formatted.length() > start && !rangeMask.isCompletable(formatted)) {
+            /** The typed characters cannot lead to a date in the range. */
+            formatted = text.substring(0, Math.min(start, text.length()));
+        }
+        return text.equals(formatted) ? null : formatted;
+    }
+
+    /**
+     * Changes the text to the formatted text with a single replace of the part after the common prefix.
+     * So the text watchers see one change and the Editable, its spans and the layout are kept.
+     * @param editable the text of the view
+     * @param text the formatted text
+     */
+    private void replaceChangedText(Editable editable, String text) {
+        int prefix = 0;
+        int commonLength = Math.min(editable.length(), text.length());
+        while(prefix < commonLength && editable.charAt(prefix) == text.charAt(prefix)) {
+            prefix++;
+        }
+        if(prefix == editable.length() && prefix == text.length()) {
+            return;
+        }
+        if(null != inputMetrics) {
+            inputMetrics.recordTextRewrite();
+        }
+        setTextEditMode(TextEditMode.CODE);
+        try {
+            editable.replace(prefix, editable.length(), text, prefix, text.length());
+        } finally {
+            setTextEditMode(TextEditMode.USER);
+        }
+        setTextSelectionToEnd();
+    }
+
+    /**
+     * Checks whether the text is same as the characters in the buffer
+     * @param text the text
+     * @param buffer the buffer
+     * @param length the length of the characters in the buffer
+     * @return boolean - same or not
+     */
+    private static boolean isSameText(CharSequence text, char[] buffer, int length) {
+        if(text.length() != length) {
+            return false;
+        }
+        for(int i = 0; i < length; i++) {
+            if(text.charAt(i) != buffer[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns the text of the field or empty if null.
      * @return String - the text in the field
@@ -1147,14 +1878,6 @@ public class DateField extends MenuDisabledEditText {
         return null == getText() ? "" : getText().toString();
     }
 
-    /**
-     * Checks whether the input text is invalid in terms of the date format of the view
-     * @return is the input text is having invalid length or not
-     */
-    private boolean isInvalidInputLength() {
-        return (null == getText() || getText().toString().trim().isEmpty()
-                || getDateFormatLength() != getText().toString().trim().length());
-    }
 
     /**
      * Returns is the entered date is a valid format based on the current view date format
@@ -1162,7 +1885,7 @@ public class DateField extends MenuDisabledEditText {
      * @return boolean - the input date is valid or not
      */
     public boolean isValidInput() {
-        return StatusType.VALID == getValidationStatus();
+        return getValidationSnapshot().isValid();
     }
 
     /**
@@ -1170,21 +1893,71 @@ public class DateField extends MenuDisabledEditText {
      * @return StatusType - the input date is valid or not with type in class StatusType
      */
     public StatusType getValidationStatus() {
-        try {
-            if(isInvalidInputLength()) {
-                return StatusType.INVALID;
-            }
-            Date date = parse(getText().toString().trim());
-            if(null != getMinDate() && date.before(getMinDate())) {
-                return StatusType.OUT_OF_MIN_RANGE;
-            }
-            if(null != getMaxDate() && date.after(getMaxDate())) {
-                return StatusType.OUT_OF_MAX_RANGE;
-            }
-            return StatusType.VALID;
-        } catch (ParseException e) {
+        return getValidationSnapshot().getStatus();
+    }
+
+    /**
+     * Returns the validation result of the current input.
+     * The input is validated once for a change of the text, the date format, the lenient mode or
+     * the date range. Till then the same snapshot is returned.
+     * @return ValidationSnapshot - the status type, epoch day and date of the current input
+     */
+    public ValidationSnapshot getValidationSnapshot() {
+        DateInputValidator validator = getInputValidator();
+        ValidationSnapshot snapshot = validationSnapshot;
+        if(null != snapshot && snapshot.isFor(validator, textRevision)) {
+            return snapshot;
+        }
+        long startNanos = null == inputMetrics ? 0 : System.nanoTime();
+        snapshot = ValidationSnapshot.create(validator, textRevision, getNonNullText().trim());
+        validationSnapshot = snapshot;
+        if(null != inputMetrics) {
+            inputMetrics.recordValidation(System.nanoTime() - startNanos);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Drops the validator of the previous date format, lenient mode or date range.
+     * The new one is created when it is next used.
+     */
+    private void invalidateInputValidator() {
+        inputValidator = null;
+    }
+
+    /**
+     * Returns the range mask of the current date format and date range.
+     * The characters typed after which the text cannot be a date in the range are rejected with it.
+     * Without a range, the validator is not created for it.
+     * @return DateRangeMask - the range mask or null if there is no range or the format is not supported
+     */
+    DateRangeMask getRangeMask() {
+        if(null == getDateFormat() || (NO_MIN_DATE == minEpochDay && NO_MAX_DATE == maxEpochDay)) {
+            return null;
+        }
+        return getInputValidator().getRangeMask();
+    }
+
+    /**
+     * Returns the validator with the current date format, lenient mode and date range of the view.
+     * The same rules can be used without the view, eg:- with a BatchDateValidator.
+     * @return DateInputValidator - the validator
+     */
+    public DateInputValidator getInputValidator() {
+        if(null == inputValidator) {
+            inputValidator = new DateInputValidator(getDateFormat(), isLenient(), minEpochDay, maxEpochDay);
         }
-        return StatusType.INVALID;
+        return inputValidator;
+    }
+
+    /**
+     * Parses the value with the current date format to epoch day, without throwing.
+     * The range is not checked.
+     * @param value the value to parse
+     * @return int - the epoch day or DateInputValidator.INVALID_DATE if not a valid date
+     */
+    public int tryParse(String value) {
+        return getInputValidator().parse(value);
     }
 
     /**
@@ -1198,16 +1971,224 @@ public class DateField extends MenuDisabledEditText {
      * Notifies the listeners about the date set
      */
     private void notifyListeners() {
+        if(isListenersEmpty()) {
+            return;
+        }
+        switch(notificationPolicy) {
+            case DISTINCT:
+                dispatchNotification(true);
+                break;
+            case PER_FRAME:
+                if(!notificationPending) {
+                    notificationPending = true;
+                    postOnAnimation(notificationRunnable);
+                }
+                break;
+            case DEBOUNCE:
+                removeCallbacks(notificationRunnable);
+                notificationPending = true;
+                postDelayed(notificationRunnable, notificationDebounceMillis);
+                break;
+            default:
+                dispatchNotification(false);
+                break;
+        }
+    }
+
+    /**
+     * Validates the input and notifies the listeners
+     * @param distinct notify only if the text or the status type is changed from the last notification
+     */
+    private void dispatchNotification(boolean distinct) {
         try {
             if(isListenersEmpty()) {
                 return;
             }
+            if(null != validationExecutor) {
+                dispatchNotificationOnExecutor(distinct);
+                return;
+            }
             StatusType statusType = getValidationStatus();
-            notifyListenersWithDate(getNonNullText(), statusType);
+            String text = getNonNullText();
+            if(notificationDispatcher.record(text, statusType, distinct)) {
+                notifyListenersWithDate(text, statusType);
+            }
         } catch (Exception ex) {
         }
     }
 
+    /**
+     * Validates the input and notifies the listeners on the validation executor.
+     * The validation result is posted back to the main thread, where it is used by the getters
+     * if the input is not changed by then. A newer notification cancels this one, before the
+     * validation and before each listener.
+     * @param distinct notify only if the text or the status type is changed from the last notification
+     */
+    private void dispatchNotificationOnExecutor(final boolean distinct) {
+        final int generation = notificationDispatcher.nextGeneration();
+        final DateInputValidator validator = getInputValidator();
+        final int revision = textRevision;
+        final String text = getNonNullText();
+        final ValidationSnapshot cachedSnapshot = null != validationSnapshot
+                && validationSnapshot.isFor(validator, revision) ? validationSnapshot : null;
+        validationExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if(!notificationDispatcher.isCurrent(generation)) {
+                    return;
+                }
+                final ValidationSnapshot snapshot = null != cachedSnapshot
+                        ? cachedSnapshot : ValidationSnapshot.create(validator, revision, text.trim());
+                if(null == cachedSnapshot) {
+                    post(new Runnable() {
+                        @Override
+                        public void run() {
+                            if(snapshot.isFor(getInputValidator(), textRevision)) {
+                                validationSnapshot = snapshot;
+                            }
+                        }
+                    });
+                }
+                notificationDispatcher.dispatch(generation, text, snapshot.getStatus(), distinct, getListeners());
+            }
+        });
+    }
+
+    /**
+     * Returns the executor of the validation and the listeners
+     * @return Executor - the executor or null if they run on the main thread
+     */
+    public @Nullable Executor getValidationExecutor() {
+        return validationExecutor;
+    }
+
+    /**
+     * Sets the executor to run the validation and the listeners on, instead of the main thread.
+     * The listeners are then called on a thread of the executor, so they should post any change
+     * to the views back to the main thread. A notification that is not yet run or is still
+     * notifying the listeners is cancelled by a newer one.
+     * The input metrics are not recorded for the notifications on the executor.
+     * @param validationExecutor the executor or null to run them on the main thread
+     */
+    public void setValidationExecutor(@Nullable Executor validationExecutor) {
+        notificationDispatcher.cancel();
+        this.validationExecutor = validationExecutor;
+    }
+
+    /**
+     * Removes the posted notification if any, and cancels the notification running on the executor
+     */
+    private void cancelPendingNotification() {
+        notificationDispatcher.cancel();
+        if(notificationPending) {
+            notificationPending = false;
+            removeCallbacks(notificationRunnable);
+        }
+    }
+
+    @Override
+    protected void onConfigurationChanged(Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+        if(!Locale.getDefault().equals(locale)) {
+            if(LazyDateFormat.unwrap(dateFormat) instanceof BaseMMMDD) {
+                /** The format is compiled with the month names of the new locale, and the text rewritten in them. */
+                Locale previousLocale = locale;
+                compileDateFormat();
+                applyFilters();
+                rewriteMonthName(previousLocale);
+            } else {
+                locale = Locale.getDefault();
+            }
+        }
+    }
+
+    /**
+     * Rewrites the month name of the text in the month names of the default locale, as the name typed
+     * in the previous locale is not read anymore. A month name partly typed is removed, and so is the
+     * name of a month that has no name of the length in the default locale, with the text after it.
+     * The text is not changed if the format has its own month map.
+     * @param previousLocale the locale in which the text was typed
+     */
+    private void rewriteMonthName(Locale previousLocale) {
+        BaseMMMDD format = (BaseMMMDD) LazyDateFormat.unwrap(dateFormat);
+        String text = getNonNullText();
+        int start = format.componentTable().startOf(Calendar.MONTH);
+        int end = format.componentTable().endOf(Calendar.MONTH);
+        if(text.length() <= start || format.getMonthMap() != MonthSymbols.getDefault().getShortMonthMap()) {
+            return;
+        }
+        char[] rewritten = text.toCharArray();
+        int month = MonthSymbols.get(previousLocale).getShortMonthMatcher(end - start + 1).match(text, start);
+        if(MonthNameMatcher.NO_MONTH == month || !format.getMonthNameMatcher().copyName(month, rewritten, start)) {
+            setTextMutingWatcher(text.substring(0, start));
+        } else if(!text.equals(new String(rewritten))) {
+            setTextMutingWatcher(new String(rewritten));
+        } else {
+            return;
+        }
+        setTextSelectionToEnd();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        cancelPendingNotification();
+        super.onDetachedFromWindow();
+    }
+
+    /**
+     * Returns the validation mode of the view
+     * @return ValidationMode - the validation mode
+     */
+    public ValidationMode getValidationMode() {
+        return validationMode;
+    }
+
+    /**
+     * Sets the validation mode of the view, which decides when the input is validated for the listeners
+     * @param validationMode the validation mode
+     */
+    public void setValidationMode(@NonNull ValidationMode validationMode) {
+        this.validationMode = validationMode;
+    }
+
+    /**
+     * Returns the notification policy of the listeners
+     * @return NotificationPolicy - the notification policy
+     */
+    public NotificationPolicy getNotificationPolicy() {
+        return notificationPolicy;
+    }
+
+    /**
+     * Sets the notification policy of the listeners. A posted notification is removed.
+     * @param notificationPolicy the notification policy
+     */
+    public void setNotificationPolicy(@NonNull NotificationPolicy notificationPolicy) {
+        cancelPendingNotification();
+        this.notificationPolicy = notificationPolicy;
+    }
+
+    /**
+     * Sets the notification policy of the listeners to DEBOUNCE with the given debounce time
+     * @param debounceMillis the debounce time in milliseconds
+     */
+    public void setNotificationDebounce(long debounceMillis) {
+        if(debounceMillis < 0) {
+            throwInvalidArgumentExceptionWithMessage("The debounce time should not be negative. Which is " + debounceMillis);
+            return;
+        }
+        this.notificationDebounceMillis = debounceMillis;
+        setNotificationPolicy(NotificationPolicy.DEBOUNCE);
+    }
+
+    /**
+     * Returns the debounce time of the notifications
+     * @return long - the debounce time in milliseconds
+     */
+    public long getNotificationDebounceMillis() {
+        return notificationDebounceMillis;
+    }
+
     /**
      * Notifies the listeners about the date set
      * @param date the date string
@@ -1217,11 +2198,15 @@ public class DateField extends MenuDisabledEditText {
         if(isListenersEmpty()) {
             return;
         }
+        long startNanos = null == inputMetrics ? 0 : System.nanoTime();
         for(DateInputListener listener : listeners) {
             if(null != listener) {
                 listener.onDateSet(date, statusType);
             }
         }
+        if(null != inputMetrics) {
+            inputMetrics.recordListenerDispatch(System.nanoTime() - startNanos);
+        }
     }
 
     /**
@@ -1229,7 +2214,7 @@ public class DateField extends MenuDisabledEditText {
      * @param message the message to throw.
      */
     private void throwGeneralExceptionWithMessage(String message) {
-        throw new DateFieldException(message);
+        throw ExceptionCreator.getGeneralException(message);
     }
 
     /**
@@ -1237,6 +2222,14 @@ public class DateField extends MenuDisabledEditText {
      * @param message the message to throw.
      */
     private void throwInvalidArgumentExceptionWithMessage(String message) {
-        throw new DateFieldInvalidArgumentException(message);
+        throw ExceptionCreator.getInvalidArgumentException(message);
+    }
+
+    /**
+     * Throws invalid DateField exception, with the message joined only if it is read.
+     * @param messageParts the parts of the message to throw.
+     */
+    private void throwInvalidArgumentException(Object... messageParts) {
+        throw ExceptionCreator.getInvalidArgumentException(messageParts);
     }
 }
@@ -0,0 +1,153 @@
+package com.vcb.edit.datefield;
+
+import android.text.InputFilter;
+import android.text.Spanned;
+
+import com.vcb.edit.datefield.format.DateFormat;
+import com.vcb.edit.datefield.format.engine.DateRangeMask;
+import com.vcb.edit.datefield.format.engine.FormatCompiler;
+import com.vcb.edit.datefield.format.engine.KeystrokeEngine;
+
+/**
+ * Filter that formats the characters typed at the end of the text before they are committed.
+ * The typed characters are replaced with the characters to add, padded with 0, followed by the
+ * separator or rejected, so the text changes once for a keystroke.
+ * The changes that cannot be done by replacing the typed characters, like dropping the previous
+ * characters of a component, are left to the text watcher of the DateField.
+ * With the range of the field, the characters after which the text cannot be a date in the range are rejected.
+ */
+public class DateFormatInputFilter implements InputFilter {
+    /**
+     * The date format of the field
+     */
+    private final DateFormat dateFormat;
+    /**
+     * The keystroke engine of the format or null if the format cannot be compiled
+     */
+    private final KeystrokeEngine keystrokeEngine;
+    /**
+     * The buffer of the keystroke engine
+     */
+    private final char[] buffer;
+    /**
+     * The field whose range mask is checked or null if the range is not checked
+     */
+    private final DateField dateField;
+    /**
+     * Whether the filter formats the input
+     */
+    private boolean enabled = true;
+    /**
+     * Whether the last input is formatted by the filter
+     */
+    private boolean filtered;
+
+    /**
+     * Constructor
+     * @param dateFormat the date format of the field
+     */
+    public DateFormatInputFilter(DateFormat dateFormat) {
+        this(dateFormat, FormatCompiler.compile(dateFormat), null);
+    }
+
+    /**
+     * Constructor
+     * @param dateFormat the date format of the field
+     * @param keystrokeEngine the compiled engine of the format or null
+     * @param dateField the field whose range mask is checked or null. The mask is asked for when
+     *                  a character is typed, so the validator of the field is created only when needed.
+     */
+    DateFormatInputFilter(DateFormat dateFormat, KeystrokeEngine keystrokeEngine, DateField dateField) {
+        this.dateFormat = dateFormat;
+        this.keystrokeEngine = keystrokeEngine;
+        this.buffer = new char[dateFormat.length()];
+        this.dateField = dateField;
+    }
+
+    /**
+     * Returns the date format of the filter
+     * @return DateFormat - the date format
+     */
+    public DateFormat getDateFormat() {
+        return dateFormat;
+    }
+
+    /**
+     * Enables or disables the formatting. Disabled while the text is set from code.
+     * @param enabled enable or not
+     */
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns whether the last input is formatted by the filter and clears it
+     * @return boolean - formatted or not
+     */
+    boolean consumeFiltered() {
+        boolean filtered = this.filtered;
+        this.filtered = false;
+        return filtered;
+    }
+
+    @Override
+    public CharSequence filter(CharSequence source, int start, int end, Spanned dest, int dstart, int dend) {
+        filtered = false;
+        /** Only the characters added to the end of the text are formatted here. */
+        if(!enabled || start >= end || dstart != dend || dend != dest.length()) {
+            return null;
+        }
+        int length = format(source, start, end, dest);
+        if(length < dest.length()) {
+            return null;
+        }
+        for(int i = 0; i < dest.length(); i++) {
+            if(buffer[i] != dest.charAt(i)) {
+                return null;
+            }
+        }
+        filtered = true;
+        if(length - dest.length() == end - start) {
+            boolean same = true;
+            for(int i = 0; same && i < end - start; i++) {
+                same = buffer[dest.length() + i] == source.charAt(start + i);
+            }
+            if(same) {
+                /** Keeping the source as it is, with its spans. */
+                return null;
+            }
+        }
+        return new String(buffer, dest.length(), length - dest.length());
+    }
+
+    /**
+     * Formats the text with the typed characters into the buffer
+     * @return int - the length of the formatted text in the buffer or -1 if it cannot be formatted
+     */
+    private int format(CharSequence source, int start, int end, Spanned dest) {
+        if(dest.length() > buffer.length) {
+            return -1;
+        }
+        int length = dest.length();
+        for(int i = 0; i < length; i++) {
+            buffer[i] = dest.charAt(i);
+        }
+        DateRangeMask rangeMask = null == dateField ? null : dateField.getRangeMask();
+        if(null != keystrokeEngine) {
+            for(int i = start; i < end; i++) {
+                length = keystrokeEngine.append(buffer, length, source.charAt(i), rangeMask);
+            }
+            return length;
+        }
+        String formatted = dateFormat.formatInput(dest.toString() + source.subSequence(start, end));
+        if(null == formatted || formatted.length() > buffer.length) {
+            return -1;
+        }
+        if(null != rangeMask && formatted.length() > length && !rangeMask.isCompletable(formatted)) {
+            /** The typed characters cannot lead to a date in the range. */
+            return length;
+        }
+        formatted.getChars(0, formatted.length(), buffer, 0);
+        return formatted.length();
+    }
+}
@@ -0,0 +1,105 @@
+package com.vcb.edit.datefield;
+
+import android.view.inputmethod.InputConnection;
+import android.view.inputmethod.InputConnectionWrapper;
+
+/**
+ * Input connection of the DateField for the soft keyboards.
+ * The edits of the keyboard are grouped into input batches of the DateField, from the outermost
+ * beginBatchEdit() to its endBatchEdit(). A single commit, composing update or delete outside a batch
+ * is a batch by itself. The text watcher does not act on the steps of a batch, and the DateField
+ * validates the text once at the end of the batch. A single character committed is formatted by the
+ * format filter as it is typed. The composing text and the multi character commits defer the
+ * formatting, so the DateField formats the text once at the end of the batch.
+ */
+class DateInputConnection extends InputConnectionWrapper {
+    /**
+     * The field of the connection
+     */
+    private final DateField dateField;
+    /**
+     * The depth of the nested batch edits of this connection
+     */
+    private int batchDepth;
+
+    /**
+     * Constructor
+     * @param target the input connection of the view
+     * @param dateField the field of the connection
+     */
+    DateInputConnection(InputConnection target, DateField dateField) {
+        super(target, true);
+        this.dateField = dateField;
+    }
+
+    @Override
+    public boolean beginBatchEdit() {
+        if(0 == batchDepth++) {
+            dateField.beginInputBatch();
+        }
+        return super.beginBatchEdit();
+    }
+
+    @Override
+    public boolean endBatchEdit() {
+        /** The text is formatted before the batch of the view ends, so the keyboard gets a single update. */
+        if(batchDepth > 0 && 0 == --batchDepth) {
+            dateField.endInputBatch();
+        }
+        return super.endBatchEdit();
+    }
+
+    @Override
+    public boolean commitText(CharSequence text, int newCursorPosition) {
+        beginBatchEdit();
+        if(null != text && text.length() > 1) {
+            dateField.deferInputBatch();
+        }
+        try {
+            return super.commitText(text, newCursorPosition);
+        } finally {
+            endBatchEdit();
+        }
+    }
+
+    @Override
+    public boolean setComposingText(CharSequence text, int newCursorPosition) {
+        beginBatchEdit();
+        dateField.deferInputBatch();
+        try {
+            return super.setComposingText(text, newCursorPosition);
+        } finally {
+            endBatchEdit();
+        }
+    }
+
+    @Override
+    public boolean finishComposingText() {
+        beginBatchEdit();
+        try {
+            return super.finishComposingText();
+        } finally {
+            endBatchEdit();
+        }
+    }
+
+    @Override
+    public boolean deleteSurroundingText(int beforeLength, int afterLength) {
+        beginBatchEdit();
+        try {
+            return super.deleteSurroundingText(beforeLength, afterLength);
+        } finally {
+            endBatchEdit();
+        }
+    }
+
+    @Override
+    public void closeConnection() {
+        /** Ending a batch left open by the keyboard. */
+        if(batchDepth > 0) {
+            batchDepth = 0;
+            dateField.endInputBatch();
+        }
+        super.closeConnection();
+    }
+}
@@ -1,8 +1,15 @@
 package com.vcb.edit.datefield;
 
+import android.os.Build;
 import android.text.InputFilter;
 
+import java.lang.reflect.Field;
+
 public class InputLengthFilter extends InputFilter.LengthFilter {
+    /**
+     * The invalid max length
+     */
+    static final int INVALID_MAX_LENGTH = -1;
     /**
      * The max length to apply
      */
@@ -24,4 +31,45 @@ public class InputLengthFilter extends InputFilter.LengthFilter {
     public int getMaxLength() {
         return maxLength;
     }
+
+    /**
+     * Returns the max length of the filter of type InputFilter.LengthFilter.
+     * Below API 21 the private variable mMax is read by reflection, with the field resolved once.
+     * @param filter the instance of InputFilter.LengthFilter
+     * @return the max length or INVALID_MAX_LENGTH
+     */
+    static int getMaxLengthOf(InputFilter.LengthFilter filter) {
+        if(filter instanceof InputLengthFilter) {
+            return ((InputLengthFilter) filter).getMaxLength();
+        }
+        if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            return filter.getMax();
+        }
+        if(null == MaxField.FIELD) {
+            return INVALID_MAX_LENGTH;
+        }
+        try {
+            return MaxField.FIELD.getInt(filter);
+        } catch (Exception ex) {
+        }
+        return INVALID_MAX_LENGTH;
+    }
+
+    /**
+     * Holder of the private variable mMax of InputFilter.LengthFilter. Resolved when first accessed.
+     */
+    private static final class MaxField {
+        static final Field FIELD;
+
+        static {
+            Field field = null;
+            try {
+                field = InputFilter.LengthFilter.class.getDeclaredField("mMax");
+                field.setAccessible(true);
+            } catch (Exception ex) {
+                field = null;
+            }
+            FIELD = field;
+        }
+    }
 }
@@ -0,0 +1,117 @@
+package com.vcb.edit.datefield;
+
+import com.vcb.edit.datefield.constants.StatusType;
+import com.vcb.edit.datefield.listener.DateInputListener;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the generation and the last notified text and status type of the notifications of the DateField.
+ * A notification of an older generation is cancelled. A notification on the validation executor is
+ * recorded as the last notified one only after all the listeners are notified, so a notification
+ * cancelled in between is not taken as notified by the DISTINCT policy.
+ */
+final class NotificationDispatcher {
+    /**
+     * The generation of the notifications
+     */
+    private final AtomicInteger generation = new AtomicInteger();
+    /**
+     * The lock for the last notified text and status type, which are updated from the executor
+     */
+    private final Object lock = new Object();
+    /**
+     * The text of the last notification
+     */
+    private String lastNotifiedText;
+    /**
+     * The status type of the last notification
+     */
+    private StatusType lastNotifiedStatus;
+
+    /**
+     * Starts a new generation, which cancels the notifications of the older ones
+     * @return int - the new generation
+     */
+    int nextGeneration() {
+        return generation.incrementAndGet();
+    }
+
+    /**
+     * Cancels the notifications of the current generation
+     */
+    void cancel() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Returns whether the generation is the current one
+     * @param generation the generation of a notification
+     * @return boolean - current or not
+     */
+    boolean isCurrent(int generation) {
+        return generation == this.generation.get();
+    }
+
+    /**
+     * Records the notification on the main thread, before the listeners are notified
+     * @param text the text notified
+     * @param statusType the status type notified
+     * @param distinct notify only if the text or the status type is changed from the last notification
+     * @return boolean - whether the listeners are to be notified
+     */
+    boolean record(String text, StatusType statusType, boolean distinct) {
+        synchronized(lock) {
+            if(distinct && isLastNotified(text, statusType)) {
+                return false;
+            }
+            lastNotifiedText = text;
+            lastNotifiedStatus = statusType;
+            return true;
+        }
+    }
+
+    /**
+     * Notifies the listeners, while the generation is the current one.
+     * An exception of a listener does not reach the caller or stop the other listeners.
+     * The notification is recorded as the last notified one once all the listeners are notified.
+     * @param generation the generation of the notification
+     * @param text the text to notify
+     * @param statusType the status type to notify
+     * @param distinct notify only if the text or the status type is changed from the last notification
+     * @param listeners the listeners to notify
+     */
+    void dispatch(int generation, String text, StatusType statusType, boolean distinct,
+                  Iterable<DateInputListener> listeners) {
+        synchronized(lock) {
+            if(!isCurrent(generation) || (distinct && isLastNotified(text, statusType))) {
+                return;
+            }
+        }
+        for(DateInputListener listener : listeners) {
+            if(!isCurrent(generation)) {
+                return;
+            }
+            if(null != listener) {
+                try {
+                    listener.onDateSet(text, statusType);
+                } catch (Exception ex) {
+                    ex.printStackTrace();
+                }
+            }
+        }
+        synchronized(lock) {
+            if(isCurrent(generation)) {
+                lastNotifiedText = text;
+                lastNotifiedStatus = statusType;
+            }
+        }
+    }
+
+    /**
+     * Returns whether the text and the status type are of the last notification. Called with the lock.
+     */
+    private boolean isLastNotified(String text, StatusType statusType) {
+        return statusType == lastNotifiedStatus && null != text && text.equals(lastNotifiedText);
+    }
+}
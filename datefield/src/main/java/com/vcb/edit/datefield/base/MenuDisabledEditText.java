@@ -5,13 +5,11 @@ import android.os.Build;
 import android.util.AttributeSet;
 import android.view.ActionMode;
 import android.view.ContextMenu;
+import android.view.KeyEvent;
 import android.view.Menu;
 import android.view.MenuItem;
 import android.view.MotionEvent;
 import android.view.View;
-import android.widget.TextView;
-
-import java.lang.reflect.Field;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -22,6 +20,13 @@ import androidx.appcompat.widget.AppCompatEditText;
  * This class can be extended or used as raw.
  */
 public class MenuDisabledEditText extends AppCompatEditText {
+    /**
+     * Depth of the framework calls that can query whether paste is possible.
+     * The selection is reported as empty while this is greater than zero,
+     * so that the framework canPaste() check fails.
+     */
+    private int pasteQueryDepth;
+
     public MenuDisabledEditText(@NonNull Context context) {
         super(context);
         initialize();
@@ -55,17 +60,44 @@ public class MenuDisabledEditText extends AppCompatEditText {
 
     @Override
     public int getSelectionStart() {
-        try {
-            for(StackTraceElement element : Thread.currentThread().getStackTrace()) {
-                if(null != element && element.getMethodName().equals("canPaste")) {
-                    return -1;
-                }
-            }
-        } catch (Exception ex) {
+        if(pasteQueryDepth > 0) {
+            return -1;
         }
         return super.getSelectionStart();
     }
 
+    /**
+     * Disables the paste shortcuts of a hardware keyboard, Ctrl+V and Ctrl+Shift+V.
+     * The other shortcuts, like copy, cut and select all, are handled as usual.
+     */
+    @Override
+    public boolean onKeyShortcut(int keyCode, KeyEvent event) {
+        if(KeyEvent.KEYCODE_V == keyCode) {
+            return false;
+        }
+        return super.onKeyShortcut(keyCode, event);
+    }
+
+    @Override
+    public boolean performLongClick() {
+        pasteQueryDepth++;
+        try {
+            return super.performLongClick();
+        } finally {
+            pasteQueryDepth--;
+        }
+    }
+
+    @Override
+    protected void onCreateContextMenu(ContextMenu menu) {
+        pasteQueryDepth++;
+        try {
+            super.onCreateContextMenu(menu);
+        } finally {
+            pasteQueryDepth--;
+        }
+    }
+
     /**
      * Can disable from pasting if user tap on the menu.
      * @param id the id of the menu
@@ -91,21 +123,7 @@ public class MenuDisabledEditText extends AppCompatEditText {
     }
 
     private void disableInsertion() {
-        try {
-            Field editorField = TextView.class.getDeclaredField("mEditor");
-            editorField.setAccessible(true);
-            Object editorObject = editorField.get(this);
-
-            Class editorClass = Class.forName("android.widget.Editor");
-            Field mInsertionControllerEnabledField = editorClass.getDeclaredField("mInsertionControllerEnabled");
-            mInsertionControllerEnabledField.setAccessible(true);
-            mInsertionControllerEnabledField.set(editorObject, false);
-
-//            Field mSelectionControllerEnabled = editorClass.getDeclaredField("mSelectionControllerEnabled");
-//            mSelectionControllerEnabled.setAccessible(true);
-//            mSelectionControllerEnabled.set(editorObject, false);
-        } catch (Exception ex) {
-        }
+        PasteGuard.disableInsertion(this);
     }
 
     private void initialize() {
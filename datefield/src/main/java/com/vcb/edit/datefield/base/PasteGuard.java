@@ -0,0 +1,67 @@
+package com.vcb.edit.datefield.base;
+
+import android.widget.TextView;
+
+import java.lang.reflect.Field;
+
+/**
+ * Hooks into the framework editor of a TextView to disable the insertion controller,
+ * which shows the paste popup on the cursor handle.
+ * The reflective hooks are resolved once per class on first use, so each call is a field write.
+ */
+final class PasteGuard {
+
+    /**
+     * Constructor
+     */
+    private PasteGuard() {
+    }
+
+    /**
+     * Disables the insertion controller of the view.
+     * Does nothing if the framework fields are not available on this platform.
+     * @param view the view to disable the insertion for
+     */
+    static void disableInsertion(TextView view) {
+        if(!Hooks.AVAILABLE) {
+            return;
+        }
+        try {
+            Object editor = Hooks.EDITOR.get(view);
+            if(null != editor) {
+                Hooks.INSERTION_CONTROLLER_ENABLED.setBoolean(editor, false);
+            }
+        } catch (Exception ex) {
+        }
+    }
+
+    /**
+     * Holder of the reflective hooks. Resolved when first accessed.
+     */
+    private static final class Hooks {
+        /** TextView.mEditor */
+        static final Field EDITOR;
+        /** Editor.mInsertionControllerEnabled */
+        static final Field INSERTION_CONTROLLER_ENABLED;
+        /** Whether the hooks are resolved */
+        static final boolean AVAILABLE;
+
+        static {
+            Field editorField = null;
+            Field insertionField = null;
+            try {
+                editorField = TextView.class.getDeclaredField("mEditor");
+                editorField.setAccessible(true);
+                Class<?> editorClass = Class.forName("android.widget.Editor");
+                insertionField = editorClass.getDeclaredField("mInsertionControllerEnabled");
+                insertionField.setAccessible(true);
+            } catch (Exception ex) {
+                editorField = null;
+                insertionField = null;
+            }
+            EDITOR = editorField;
+            INSERTION_CONTROLLER_ENABLED = insertionField;
+            AVAILABLE = null != editorField && null != insertionField;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.vcb.edit.datefield.metrics;
+
+/**
+ * Metrics of the input handling of a DateField.
+ * Records the latency of each keystroke in the text watcher and of the formatting, validation
+ * and listener dispatch parts of it, with the number of text rewrites done for the keystrokes.
+ * The metrics are recorded only when enabled on the view, see DateField.setInputMetricsEnabled().
+ * Not thread safe. Recorded and read on the main thread of the view.
+ */
+public final class InputMetrics {
+    /** Latency of a keystroke in the text watcher. */
+    private final LatencyHistogram keystroke = new LatencyHistogram();
+    /** Latency of formatting the text of a keystroke. */
+    private final LatencyHistogram formatting = new LatencyHistogram();
+    /** Latency of a validation. */
+    private final LatencyHistogram validation = new LatencyHistogram();
+    /** Latency of notifying the listeners. */
+    private final LatencyHistogram listenerDispatch = new LatencyHistogram();
+    /** Number of text rewrites of all the keystrokes. */
+    private long textRewrites;
+    /** Maximum number of text rewrites of a keystroke. */
+    private int maxTextRewritesPerKeystroke;
+    /** Number of text rewrites of the current keystroke. */
+    private int currentTextRewrites;
+
+    /**
+     * Starts a keystroke
+     */
+    public void beginKeystroke() {
+        currentTextRewrites = 0;
+    }
+
+    /**
+     * Finishes a keystroke
+     * @param nanos the latency of the keystroke in nanoseconds
+     */
+    public void endKeystroke(long nanos) {
+        keystroke.record(nanos);
+        textRewrites += currentTextRewrites;
+        if(currentTextRewrites > maxTextRewritesPerKeystroke) {
+            maxTextRewritesPerKeystroke = currentTextRewrites;
+        }
+        currentTextRewrites = 0;
+    }
+
+    /**
+     * Counts a rewrite of the text by the view
+     */
+    public void recordTextRewrite() {
+        currentTextRewrites++;
+    }
+
+    /**
+     * Records the latency of formatting the text of a keystroke
+     * @param nanos the latency in nanoseconds
+     */
+    public void recordFormatting(long nanos) {
+        formatting.record(nanos);
+    }
+
+    /**
+     * Records the latency of a validation
+     * @param nanos the latency in nanoseconds
+     */
+    public void recordValidation(long nanos) {
+        validation.record(nanos);
+    }
+
+    /**
+     * Records the latency of notifying the listeners
+     * @param nanos the latency in nanoseconds
+     */
+    public void recordListenerDispatch(long nanos) {
+        listenerDispatch.record(nanos);
+    }
+
+    /**
+     * Clears the recorded metrics
+     */
+    public void reset() {
+        keystroke.reset();
+        formatting.reset();
+        validation.reset();
+        listenerDispatch.reset();
+        textRewrites = 0;
+        maxTextRewritesPerKeystroke = 0;
+        currentTextRewrites = 0;
+    }
+
+    /**
+     * Returns a copy of the current metrics
+     * @return InputMetricsSnapshot - the snapshot
+     */
+    public InputMetricsSnapshot snapshot() {
+        return new InputMetricsSnapshot(keystroke.snapshot(), formatting.snapshot(), validation.snapshot(),
+                listenerDispatch.snapshot(), textRewrites, maxTextRewritesPerKeystroke);
+    }
+}
@@ -0,0 +1,100 @@
+package com.vcb.edit.datefield.metrics;
+
+/**
+ * Immutable copy of the InputMetrics of a DateField
+ */
+public final class InputMetricsSnapshot {
+    /** Latency of a keystroke in the text watcher. */
+    private final LatencySnapshot keystroke;
+    /** Latency of formatting the text of a keystroke. */
+    private final LatencySnapshot formatting;
+    /** Latency of a validation. */
+    private final LatencySnapshot validation;
+    /** Latency of notifying the listeners. */
+    private final LatencySnapshot listenerDispatch;
+    /** Number of text rewrites of all the keystrokes. */
+    private final long textRewrites;
+    /** Maximum number of text rewrites of a keystroke. */
+    private final int maxTextRewritesPerKeystroke;
+
+    InputMetricsSnapshot(LatencySnapshot keystroke, LatencySnapshot formatting, LatencySnapshot validation,
+                         LatencySnapshot listenerDispatch, long textRewrites, int maxTextRewritesPerKeystroke) {
+        this.keystroke = keystroke;
+        this.formatting = formatting;
+        this.validation = validation;
+        this.listenerDispatch = listenerDispatch;
+        this.textRewrites = textRewrites;
+        this.maxTextRewritesPerKeystroke = maxTextRewritesPerKeystroke;
+    }
+
+    /**
+     * Returns the latency of a keystroke in the text watcher
+     * @return LatencySnapshot - the latency
+     */
+    public LatencySnapshot getKeystroke() {
+        return keystroke;
+    }
+
+    /**
+     * Returns the latency of formatting the text of a keystroke
+     * @return LatencySnapshot - the latency
+     */
+    public LatencySnapshot getFormatting() {
+        return formatting;
+    }
+
+    /**
+     * Returns the latency of a validation
+     * @return LatencySnapshot - the latency
+     */
+    public LatencySnapshot getValidation() {
+        return validation;
+    }
+
+    /**
+     * Returns the latency of notifying the listeners
+     * @return LatencySnapshot - the latency
+     */
+    public LatencySnapshot getListenerDispatch() {
+        return listenerDispatch;
+    }
+
+    /**
+     * Returns the number of keystrokes
+     * @return long - the count
+     */
+    public long getKeystrokeCount() {
+        return keystroke.getCount();
+    }
+
+    /**
+     * Returns the number of text rewrites of all the keystrokes
+     * @return long - the count
+     */
+    public long getTextRewrites() {
+        return textRewrites;
+    }
+
+    /**
+     * Returns the maximum number of text rewrites of a keystroke
+     * @return int - the count
+     */
+    public int getMaxTextRewritesPerKeystroke() {
+        return maxTextRewritesPerKeystroke;
+    }
+
+    /**
+     * Returns the average number of text rewrites of a keystroke
+     * @return double - the average or 0 if there is no keystroke
+     */
+    public double getTextRewritesPerKeystroke() {
+        return 0 == getKeystrokeCount() ? 0 : (double) textRewrites / getKeystrokeCount();
+    }
+
+    @Override
+    public String toString() {
+        return "keystroke={" + keystroke + "}, formatting={" + formatting + "}, validation={" + validation
+                + "}, listenerDispatch={" + listenerDispatch + "}, textRewritesPerKeystroke="
+                + getTextRewritesPerKeystroke();
+    }
+}
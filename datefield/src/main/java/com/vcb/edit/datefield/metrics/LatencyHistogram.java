@@ -0,0 +1,86 @@
+package com.vcb.edit.datefield.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of latencies in nanoseconds.
+ * Values below 8 have a bucket each and every power of two above is split into 4 buckets,
+ * so a percentile is within 25% of the recorded value. Recording a value is a few integer
+ * operations on a fixed array, with no allocation.
+ * The histogram is not thread safe. It is recorded and read on the main thread of the view.
+ */
+public final class LatencyHistogram {
+    /** Number of buckets. Enough for any positive long value. */
+    static final int BUCKET_COUNT = 252;
+
+    /** The counts of the buckets. */
+    private final long[] buckets = new long[BUCKET_COUNT];
+    /** Number of recorded values. */
+    private long count;
+    /** Sum of the recorded values. */
+    private long totalNanos;
+    /** Maximum of the recorded values. */
+    private long maxNanos;
+
+    /**
+     * Records a latency
+     * @param nanos the latency in nanoseconds. Negative values are recorded as 0.
+     */
+    public void record(long nanos) {
+        if(nanos < 0) {
+            nanos = 0;
+        }
+        buckets[bucketOf(nanos)]++;
+        count++;
+        totalNanos += nanos;
+        if(nanos > maxNanos) {
+            maxNanos = nanos;
+        }
+    }
+
+    /**
+     * Clears the recorded values
+     */
+    public void reset() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    /**
+     * Returns a copy of the current state
+     * @return LatencySnapshot - the snapshot
+     */
+    public LatencySnapshot snapshot() {
+        return new LatencySnapshot(buckets.clone(), count, totalNanos, maxNanos);
+    }
+
+    /**
+     * Returns the bucket of the value
+     * @param value the value, not negative
+     * @return int - the index of the bucket
+     */
+    static int bucketOf(long value) {
+        if(value < 8) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - 2)) & 3;
+        return (exponent - 1) * 4 + sub;
+    }
+
+    /**
+     * Returns the largest value of the bucket
+     * @param bucket the index of the bucket
+     * @return long - the largest value in the bucket
+     */
+    static long upperBoundOf(int bucket) {
+        if(bucket < 8) {
+            return bucket;
+        }
+        int exponent = bucket / 4 + 1;
+        long lower = (long) (4 + bucket % 4) << (exponent - 2);
+        return lower + (1L << (exponent - 2)) - 1;
+    }
+}
@@ -0,0 +1,100 @@
+package com.vcb.edit.datefield.metrics;
+
+/**
+ * Immutable copy of a LatencyHistogram.
+ * Percentiles are the upper bound of the bucket of the value, not more than the maximum.
+ */
+public final class LatencySnapshot {
+    /** The counts of the buckets. */
+    private final long[] buckets;
+    /** Number of recorded values. */
+    private final long count;
+    /** Sum of the recorded values. */
+    private final long totalNanos;
+    /** Maximum of the recorded values. */
+    private final long maxNanos;
+
+    LatencySnapshot(long[] buckets, long count, long totalNanos, long maxNanos) {
+        this.buckets = buckets;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Returns the number of recorded values
+     * @return long - the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of the recorded values
+     * @return long - the total in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Returns the maximum of the recorded values
+     * @return long - the maximum in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean of the recorded values
+     * @return long - the mean in nanoseconds or 0 if nothing is recorded
+     */
+    public long getMeanNanos() {
+        return 0 == count ? 0 : totalNanos / count;
+    }
+
+    /**
+     * Returns the latency at the percentile
+     * @param percentile the percentile from 0 to 100. eg:- 99 for p99
+     * @return long - the latency in nanoseconds or 0 if nothing is recorded
+     */
+    public long getPercentileNanos(double percentile) {
+        if(0 == count) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(Math.max(0, Math.min(100, percentile)) / 100 * count);
+        if(rank < 1) {
+            rank = 1;
+        }
+        long seen = 0;
+        for(int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if(seen >= rank) {
+                return Math.min(LatencyHistogram.upperBoundOf(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Returns the median latency
+     * @return long - the p50 in nanoseconds
+     */
+    public long getP50Nanos() {
+        return getPercentileNanos(50);
+    }
+
+    /**
+     * Returns the 99th percentile latency
+     * @return long - the p99 in nanoseconds
+     */
+    public long getP99Nanos() {
+        return getPercentileNanos(99);
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + ", mean=" + getMeanNanos() + "ns, p50=" + getP50Nanos()
+                + "ns, p99=" + getP99Nanos() + "ns, max=" + maxNanos + "ns";
+    }
+}
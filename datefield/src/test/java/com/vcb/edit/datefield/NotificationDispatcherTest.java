@@ -0,0 +1,103 @@
+package com.vcb.edit.datefield;
+
+import com.vcb.edit.datefield.constants.StatusType;
+import com.vcb.edit.datefield.listener.DateInputListener;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the DISTINCT notifications of the NotificationDispatcher when a notification is cancelled.
+ */
+public class NotificationDispatcherTest {
+
+    @Test
+    public void cancelledMidDispatch_nextDistinctNotificationIsDelivered() {
+        final NotificationDispatcher dispatcher = new NotificationDispatcher();
+        final List<String> notified = new ArrayList<>();
+        DateInputListener cancelling = new DateInputListener() {
+            @Override
+            public void onDateSet(String date, StatusType statusType) {
+                notified.add("first " + date);
+                /** As on a policy change or detaching the view, while the listeners are notified. */
+                dispatcher.cancel();
+            }
+        };
+        DateInputListener second = new DateInputListener() {
+            @Override
+            public void onDateSet(String date, StatusType statusType) {
+                notified.add("second " + date);
+            }
+        };
+        List<DateInputListener> listeners = Arrays.asList(cancelling, second);
+
+        dispatcher.dispatch(dispatcher.nextGeneration(), "01/01/2020", StatusType.VALID, true, listeners);
+        assertEquals(Arrays.asList("first 01/01/2020"), notified);
+
+        notified.clear();
+        dispatcher.dispatch(dispatcher.nextGeneration(), "01/01/2020", StatusType.VALID, true, Arrays.asList(second));
+        assertEquals(Arrays.asList("second 01/01/2020"), notified);
+    }
+
+    @Test
+    public void completedDispatch_suppressesSameDistinctNotification() {
+        NotificationDispatcher dispatcher = new NotificationDispatcher();
+        final List<String> notified = new ArrayList<>();
+        List<DateInputListener> listeners = Arrays.<DateInputListener>asList(new DateInputListener() {
+            @Override
+            public void onDateSet(String date, StatusType statusType) {
+                notified.add(date);
+            }
+        });
+
+        dispatcher.dispatch(dispatcher.nextGeneration(), "01/01/2020", StatusType.VALID, true, listeners);
+        dispatcher.dispatch(dispatcher.nextGeneration(), "01/01/2020", StatusType.VALID, true, listeners);
+        dispatcher.dispatch(dispatcher.nextGeneration(), "01/01/2020", StatusType.VALID, false, listeners);
+        dispatcher.dispatch(dispatcher.nextGeneration(), "01/01/2021", StatusType.VALID, true, listeners);
+        assertEquals(Arrays.asList("01/01/2020", "01/01/2020", "01/01/2021"), notified);
+    }
+
+    @Test
+    public void cancelledBeforeDispatch_notifiesNothing() {
+        NotificationDispatcher dispatcher = new NotificationDispatcher();
+        final List<String> notified = new ArrayList<>();
+        List<DateInputListener> listeners = Arrays.<DateInputListener>asList(new DateInputListener() {
+            @Override
+            public void onDateSet(String date, StatusType statusType) {
+                notified.add(date);
+            }
+        });
+
+        int generation = dispatcher.nextGeneration();
+        dispatcher.cancel();
+        dispatcher.dispatch(generation, "01/01/2020", StatusType.VALID, true, listeners);
+        assertTrue(notified.isEmpty());
+    }
+
+    @Test
+    public void throwingListener_doesNotStopTheOthers() {
+        NotificationDispatcher dispatcher = new NotificationDispatcher();
+        final List<String> notified = new ArrayList<>();
+        DateInputListener throwing = new DateInputListener() {
+            @Override
+            public void onDateSet(String date, StatusType statusType) {
+                throw new IllegalStateException();
+            }
+        };
+        DateInputListener second = new DateInputListener() {
+            @Override
+            public void onDateSet(String date, StatusType statusType) {
+                notified.add(date);
+            }
+        };
+
+        dispatcher.dispatch(dispatcher.nextGeneration(), "01/01/2020", StatusType.VALID, true,
+                Arrays.asList(throwing, second));
+        assertEquals(Arrays.asList("01/01/2020"), notified);
+    }
+}